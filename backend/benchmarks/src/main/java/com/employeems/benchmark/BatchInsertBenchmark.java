@@ -0,0 +1,165 @@
+package com.employeems.benchmark;
+
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Employee inserts in rows/sec, issued the way Hibernate issues them for each id
+ * strategy: IDENTITY inserts one row per round trip and reads the generated key
+ * back, while a pooled sequence fetches 50 ids per call and sends the rows as
+ * JDBC batches of 50 (hibernate.jdbc.batch_size). Plain JDBC against H2, one
+ * transaction per invocation, either embedded or through a loopback TCP server so
+ * that every statement round trip is paid as it would be against a real database.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(2) // JIT and GC noise on small hosts dominates short single-fork runs
+@State(Scope.Benchmark)
+public class BatchInsertBenchmark {
+
+    private static final int ROWS = 1000;
+
+    // Matches the employee_seq allocationSize and hibernate.jdbc.batch_size
+    private static final int BATCH_SIZE = 50;
+
+    private static final String COLUMNS = "employee_id, first_name, last_name, email, date_of_joining, status";
+
+    @Param({"embedded", "tcp"})
+    public String transport;
+
+    private Server server;
+
+    private Connection connection;
+
+    private long nextNumber;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String database = "mem:batch-insert-benchmark;DB_CLOSE_DELAY=-1";
+        if (transport.equals("tcp")) {
+            // Loopback only (no -tcpAllowOthers), so letting it create the database is harmless
+            server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+            connection = DriverManager.getConnection("jdbc:h2:tcp://localhost:" + server.getPort() + "/" + database, "sa", "");
+        } else {
+            connection = DriverManager.getConnection("jdbc:h2:" + database, "sa", "");
+        }
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE employees_identity (id BIGINT AUTO_INCREMENT PRIMARY KEY, " + columnDefinitions() + ")");
+            statement.execute("CREATE TABLE employees_sequence (id BIGINT PRIMARY KEY, " + columnDefinitions() + ")");
+            statement.execute("CREATE SEQUENCE employee_seq START WITH 1 INCREMENT BY " + BATCH_SIZE);
+        }
+        connection.commit();
+    }
+
+    // Keeps the tables, and so index depth, the same size in every iteration
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE employees_identity");
+            statement.execute("TRUNCATE TABLE employees_sequence");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long identityInserts() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO employees_identity (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < ROWS; i++) {
+                bindEmployee(insert, 1, nextNumber++);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long sequenceBatchedInserts() throws SQLException {
+        long id = 0;
+        long allocated = 0;
+        try (PreparedStatement nextValue = connection.prepareStatement("SELECT NEXT VALUE FOR employee_seq");
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO employees_sequence (id, " + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                if (allocated == 0) {
+                    try (ResultSet value = nextValue.executeQuery()) {
+                        value.next();
+                        id = value.getLong(1);
+                    }
+                    allocated = BATCH_SIZE;
+                }
+                insert.setLong(1, id++);
+                allocated--;
+                bindEmployee(insert, 2, nextNumber++);
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        return id;
+    }
+
+    private static String columnDefinitions() {
+        return "employee_id VARCHAR(255) NOT NULL UNIQUE, first_name VARCHAR(255) NOT NULL, "
+                + "last_name VARCHAR(255) NOT NULL, email VARCHAR(255) NOT NULL UNIQUE, "
+                + "date_of_joining DATE, status VARCHAR(255)";
+    }
+
+    private static void bindEmployee(PreparedStatement insert, int firstIndex, long number) throws SQLException {
+        insert.setString(firstIndex, String.format("EMP%07d", number));
+        insert.setString(firstIndex + 1, "First" + number);
+        insert.setString(firstIndex + 2, "Last" + number);
+        insert.setString(firstIndex + 3, "employee" + number + "@example.com");
+        insert.setDate(firstIndex + 4, Date.valueOf(LocalDate.of(2010, 1, 1).plusDays(number % 5000)));
+        insert.setString(firstIndex + 5, "ACTIVE");
+    }
+}
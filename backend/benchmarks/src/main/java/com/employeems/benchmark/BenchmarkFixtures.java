@@ -0,0 +1,149 @@
+package com.employeems.benchmark;
+
+import com.employeems.entity.Department;
+import com.employeems.entity.Designation;
+import com.employeems.entity.Employee;
+import com.employeems.entity.Permission;
+import com.employeems.entity.Role;
+import com.employeems.entity.User;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Builds detached entity graphs shaped like the seeded data, and wires Spring
+ * components by hand so benchmarks run without an application context.
+ */
+final class BenchmarkFixtures {
+
+    static final String JWT_SECRET = "mySecretKey123456789012345678901234567890";
+
+    static final String[] PERMISSION_CODES = {
+            "EMPLOYEE_READ", "EMPLOYEE_WRITE", "EMPLOYEE_DELETE",
+            "DEPARTMENT_READ", "DEPARTMENT_WRITE", "DEPARTMENT_DELETE",
+            "USER_READ", "USER_WRITE", "USER_DELETE",
+            "REPORTS_READ", "AUDIT_READ"
+    };
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 15, 9, 30);
+
+    private BenchmarkFixtures() {}
+
+    static Role role(String code, String... permissionCodes) {
+        Role role = new Role(code, code);
+        Set<Permission> permissions = new HashSet<>();
+        long id = 1;
+        for (String permissionCode : permissionCodes) {
+            Permission permission = new Permission(permissionCode, permissionCode, Permission.PermissionCategory.values()[0]);
+            permission.setId(id++);
+            permissions.add(permission);
+        }
+        role.setPermissions(permissions);
+        return role;
+    }
+
+    static User user(Long id, String username, Role role) {
+        User user = new User(username, username + "@company.com", "$2a$12$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchm", role);
+        user.setId(id);
+        return user;
+    }
+
+    /**
+     * A department tree {@code depth} levels deep with {@code fanOut} children per node,
+     * each department holding {@code employeesPerDepartment} employees.
+     */
+    static Department departmentTree(int depth, int fanOut, int employeesPerDepartment) {
+        long[] ids = {1, 1};
+        return department(null, depth, fanOut, employeesPerDepartment, ids);
+    }
+
+    private static Department department(Department parent, int depth, int fanOut, int employeesPerDepartment, long[] ids) {
+        long departmentId = ids[0]++;
+        Department department = new Department("Department " + departmentId, "D" + departmentId);
+        department.setId(departmentId);
+        department.setDescription("Benchmark department " + departmentId);
+        department.setLocation("Building " + (departmentId % 7));
+        department.setCostCenter("CC-" + (1000 + departmentId));
+        department.setParentDepartment(parent);
+        department.setCreatedAt(CREATED_AT);
+        department.setUpdatedAt(CREATED_AT);
+
+        Designation designation = designation(departmentId, department);
+        List<Employee> employees = new ArrayList<>(employeesPerDepartment);
+        for (int i = 0; i < employeesPerDepartment; i++) {
+            Employee employee = employee(ids[1]++, department, designation, employees.isEmpty() ? null : employees.get(0));
+            employees.add(employee);
+        }
+        department.setEmployees(employees);
+        department.setManager(employees.isEmpty() ? null : employees.get(0));
+
+        List<Department> children = new ArrayList<>(fanOut);
+        if (depth > 1) {
+            for (int i = 0; i < fanOut; i++) {
+                children.add(department(department, depth - 1, fanOut, employeesPerDepartment, ids));
+            }
+        }
+        department.setSubDepartments(children);
+        return department;
+    }
+
+    static List<Employee> employees(int count) {
+        Department department = new Department("Engineering", "ENG");
+        department.setId(1L);
+        Designation designation = designation(1L, department);
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(employee(i + 1L, department, designation, employees.isEmpty() ? null : employees.get(0)));
+        }
+        return employees;
+    }
+
+    private static Designation designation(long id, Department department) {
+        Designation designation = new Designation("Software Engineer " + id, "SE" + id, 3);
+        designation.setId(id);
+        designation.setDepartment(department);
+        return designation;
+    }
+
+    private static Employee employee(long id, Department department, Designation designation, Employee manager) {
+        Employee employee = new Employee(String.format("EMP%05d", id), "First" + id, "Last" + id, "employee" + id + "@company.com");
+        employee.setId(id);
+        employee.setPhoneNumber("+1-555-" + String.format("%04d", id % 10000));
+        employee.setDepartment(department);
+        employee.setDesignation(designation);
+        employee.setEmploymentType(Employee.EmploymentType.values()[0]);
+        employee.setDateOfJoining(LocalDate.of(2015, 1, 1).plusDays(id % 3000));
+        employee.setDateOfBirth(LocalDate.of(1980, 1, 1).plusDays(id % 7000));
+        employee.setAddress(id + " Main Street, Springfield");
+        employee.setManager(manager);
+        employee.setCreatedAt(CREATED_AT);
+        employee.setUpdatedAt(CREATED_AT);
+        return employee;
+    }
+
+    static void setField(Object target, String name, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot set " + name + " on " + target.getClass().getSimpleName(), e);
+        }
+    }
+
+    static void invoke(Object target, String name) {
+        try {
+            Method method = target.getClass().getDeclaredMethod(name);
+            method.setAccessible(true);
+            method.invoke(target);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot invoke " + name + " on " + target.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.employeems.benchmark;
+
+import com.employeems.dto.DepartmentDto;
+import com.employeems.dto.EmployeeDto;
+import com.employeems.entity.Department;
+import com.employeems.entity.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping for a page of employees and for a department tree.
+ * Sizes follow the default page size (20) and the maximum the UI requests (100).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private List<Employee> employees;
+
+    private List<Department> departments;
+
+    private Map<Long, Long> headcounts;
+
+    @Setup
+    public void setUp() {
+        employees = BenchmarkFixtures.employees(pageSize);
+        // 1 + 4 + 16 departments, 25 employees each, flattened as the department query returns them
+        departments = new ArrayList<>();
+        headcounts = new HashMap<>();
+        Deque<Department> pending = new ArrayDeque<>(List.of(BenchmarkFixtures.departmentTree(3, 4, 25)));
+        while (!pending.isEmpty()) {
+            Department department = pending.pop();
+            departments.add(department);
+            headcounts.put(department.getId(), (long) department.getEmployees().size());
+            pending.addAll(department.getSubDepartments());
+        }
+    }
+
+    @Benchmark
+    public void employeeDtoPage(Blackhole blackhole) {
+        for (Employee employee : employees) {
+            blackhole.consume(new EmployeeDto(employee));
+        }
+    }
+
+    // Same steps as DepartmentService: flat DTOs, headcounts from the grouped query, parents linked in memory
+    @Benchmark
+    public DepartmentDto departmentDtoTree() {
+        Map<Long, DepartmentDto> nodes = new LinkedHashMap<>(departments.size() * 2);
+        for (Department department : departments) {
+            nodes.put(department.getId(), new DepartmentDto(department, headcounts.getOrDefault(department.getId(), 0L)));
+        }
+        for (DepartmentDto node : nodes.values()) {
+            DepartmentDto parent = node.getParentDepartmentId() != null ? nodes.get(node.getParentDepartmentId()) : null;
+            if (parent != null) {
+                node.setParentDepartmentName(parent.getName());
+                parent.getSubDepartments().add(node);
+            }
+        }
+        return nodes.get(departments.get(0).getId());
+    }
+}
@@ -0,0 +1,66 @@
+package com.employeems.benchmark;
+
+import com.employeems.security.JwtUtil;
+import com.employeems.security.UserPrincipal;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue on login/refresh and token verification on every authenticated request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+
+    private UserPrincipal principal;
+
+    private String sessionId;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        BenchmarkFixtures.setField(jwtUtil, "secret", BenchmarkFixtures.JWT_SECRET);
+        BenchmarkFixtures.setField(jwtUtil, "expiration", 86400000L);
+        BenchmarkFixtures.setField(jwtUtil, "refreshExpiration", 604800000L);
+        BenchmarkFixtures.invoke(jwtUtil, "init");
+
+        principal = new UserPrincipal(BenchmarkFixtures.user(1L, "admin",
+                BenchmarkFixtures.role("ADMIN", BenchmarkFixtures.PERMISSION_CODES)));
+        sessionId = jwtUtil.newSessionId();
+        token = jwtUtil.generateToken(principal, sessionId);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(principal, sessionId);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtUtil.validateToken(token, principal);
+    }
+
+    @Benchmark
+    public Claims parseValidClaims() {
+        return jwtUtil.parseValidClaims(token);
+    }
+}
@@ -0,0 +1,73 @@
+package com.employeems.benchmark;
+
+import com.employeems.entity.Role;
+import com.employeems.security.PermissionEvaluator;
+import com.employeems.security.PermissionMaskRegistry;
+import com.employeems.security.UserPrincipal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@code @PreAuthorize} check evaluated on every controller call, with the role
+ * masks already compiled as they are after startup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PermissionEvaluatorBenchmark {
+
+    private PermissionEvaluator permissionEvaluator;
+
+    private Authentication admin;
+
+    private Authentication employee;
+
+    @Setup
+    public void setUp() {
+        PermissionMaskRegistry registry = new PermissionMaskRegistry();
+        Role adminRole = BenchmarkFixtures.role("ADMIN", BenchmarkFixtures.PERMISSION_CODES);
+        Role employeeRole = BenchmarkFixtures.role("EMPLOYEE", "EMPLOYEE_READ", "DEPARTMENT_READ");
+        registry.registerRole(adminRole);
+        registry.registerRole(employeeRole);
+
+        permissionEvaluator = new PermissionEvaluator();
+        BenchmarkFixtures.setField(permissionEvaluator, "permissionMaskRegistry", registry);
+
+        admin = authenticated(new UserPrincipal(BenchmarkFixtures.user(1L, "admin", adminRole)));
+        employee = authenticated(new UserPrincipal(BenchmarkFixtures.user(2L, "employee", employeeRole)));
+    }
+
+    private static Authentication authenticated(UserPrincipal principal) {
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    @Benchmark
+    public boolean hasPermissionGranted() {
+        return permissionEvaluator.hasPermission(admin, "EMPLOYEE_WRITE");
+    }
+
+    @Benchmark
+    public boolean hasPermissionDenied() {
+        return permissionEvaluator.hasPermission(employee, "EMPLOYEE_DELETE");
+    }
+
+    @Benchmark
+    public boolean isOwnerOrHasPermission() {
+        return permissionEvaluator.isOwnerOrHasPermission(employee, 2L, "USER_READ");
+    }
+}
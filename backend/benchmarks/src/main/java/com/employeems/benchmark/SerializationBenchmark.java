@@ -0,0 +1,79 @@
+package com.employeems.benchmark;
+
+import com.employeems.dto.EmployeeDto;
+import com.employeems.dto.EmployeeSummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON rendering of the paged employee listing, configured like the Boot
+ * auto-configured mapper (JSR-310 module, ISO dates). The summary variant is
+ * what list endpoints return; run with -prof gc to compare allocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ObjectWriter writer;
+
+    private Page<EmployeeDto> page;
+
+    private Page<EmployeeSummary> summaryPage;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        writer = objectMapper.writer();
+
+        List<EmployeeDto> content = BenchmarkFixtures.employees(pageSize).stream()
+                .map(EmployeeDto::new)
+                .toList();
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize, Sort.by("id")), 5000);
+
+        List<EmployeeSummary> summaries = content.stream()
+                .map(dto -> new EmployeeSummary(dto.getId(), dto.getEmployeeId(), dto.getFirstName(), dto.getLastName(),
+                        dto.getEmail(), dto.getPhoneNumber(), dto.getDepartmentId(), dto.getDepartmentName(),
+                        dto.getDesignationId(), dto.getDesignationTitle(), dto.getManagerId(), dto.getManagerName(),
+                        dto.getEmploymentType(), dto.getStatus(), dto.getDateOfJoining()))
+                .toList();
+        summaryPage = new PageImpl<>(summaries, PageRequest.of(0, pageSize, Sort.by("id")), 5000);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return writer.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeSummaryPage() throws Exception {
+        return writer.writeValueAsBytes(summaryPage);
+    }
+}
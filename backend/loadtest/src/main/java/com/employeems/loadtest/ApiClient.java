@@ -0,0 +1,91 @@
+package com.employeems.loadtest;
+
+import com.employeems.dto.LoginRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * Thin JSON-over-HTTP client bound to one running application and one access token.
+ */
+final class ApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+
+    private final String baseUrl;
+
+    private final ObjectMapper objectMapper;
+
+    private volatile String accessToken;
+
+    ApiClient(String baseUrl, ObjectMapper objectMapper, Executor executor) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(executor)
+                .build();
+    }
+
+    void login(String identifier, String password) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = send(post("/api/auth/login", new LoginRequest(identifier, password)).build());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed with HTTP " + response.statusCode() + ": " + new String(response.body()));
+        }
+        JsonNode body = objectMapper.readTree(response.body());
+        this.accessToken = body.path("accessToken").asText(null);
+        if (accessToken == null) {
+            throw new IllegalStateException("Login response did not contain an access token");
+        }
+    }
+
+    HttpRequest.Builder get(String path) {
+        return request(path).GET();
+    }
+
+    HttpRequest.Builder post(String path, Object body) {
+        return request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(toJson(body)));
+    }
+
+    HttpRequest.Builder put(String path, Object body) {
+        return request(path)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(toJson(body)));
+    }
+
+    HttpResponse<byte[]> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+        String token = accessToken;
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private byte[] toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
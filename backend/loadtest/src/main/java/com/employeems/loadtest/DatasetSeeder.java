@@ -0,0 +1,185 @@
+package com.employeems.loadtest;
+
+import com.employeems.dto.DepartmentDto;
+import com.employeems.dto.EmployeeDto;
+import com.employeems.entity.Designation;
+import com.employeems.entity.Employee;
+import com.employeems.entity.Role;
+import com.employeems.entity.User;
+import com.employeems.repository.DesignationRepository;
+import com.employeems.repository.RoleRepository;
+import com.employeems.repository.UserRepository;
+import com.employeems.service.DepartmentService;
+import com.employeems.service.EmployeeService;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Seeds a department tree, designations, employees with reporting lines, and an admin
+ * login directly through the application's services, before any HTTP traffic starts.
+ */
+final class DatasetSeeder {
+
+    static final String USERNAME = "loadtest.admin";
+
+    static final String PASSWORD = "LoadTest#Passw0rd";
+
+    private static final int DEPARTMENT_FAN_OUT = 4;
+
+    private static final int DESIGNATIONS_PER_DEPARTMENT = 3;
+
+    private static final int EMPLOYEE_BATCH_SIZE = 1000;
+
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "Robert", "Patricia", "John", "Jennifer", "Michael", "Linda", "David", "Elizabeth",
+            "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Priya", "Wei",
+            "Carlos", "Fatima", "Ahmed", "Yuki", "Olga", "Kwame", "Sofia", "Mateo", "Aisha", "Hiroshi"
+    };
+
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+            "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin",
+            "Lee", "Patel", "Nguyen", "Kim", "Chen", "Singh", "Kowalski", "Okafor", "Tanaka", "Ivanova"
+    };
+
+    private final ApplicationContext context;
+
+    DatasetSeeder(ApplicationContext context) {
+        this.context = context;
+    }
+
+    SeededDataset seed(int departmentCount, int employeeCount) {
+        if (departmentCount < 1 || employeeCount < departmentCount) {
+            throw new IllegalArgumentException("Need at least one department and one employee per department");
+        }
+        seedAdmin();
+
+        List<Long> departmentIds = seedDepartments(departmentCount);
+        List<Long> designationIds = seedDesignations(departmentIds);
+        List<EmployeeDto> employees = seedEmployees(departmentIds, designationIds, employeeCount);
+
+        Set<String> searchTerms = new LinkedHashSet<>();
+        for (String lastName : LAST_NAMES) {
+            searchTerms.add(lastName);
+            searchTerms.add(lastName.substring(0, 3).toLowerCase());
+        }
+        for (String firstName : FIRST_NAMES) {
+            searchTerms.add(firstName);
+        }
+        searchTerms.add("EMP00");
+        searchTerms.add("@company.com");
+        return new SeededDataset(departmentIds, designationIds, employees, new ArrayList<>(searchTerms));
+    }
+
+    private void seedAdmin() {
+        Role admin = context.getBean(RoleRepository.class).findByCode("SYSTEM_ADMIN")
+                .orElseThrow(() -> new IllegalStateException("SYSTEM_ADMIN role was not seeded"));
+        String hashedPassword = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        context.getBean(UserRepository.class).save(new User(USERNAME, "loadtest.admin@company.com", hashedPassword, admin));
+    }
+
+    private List<Long> seedDepartments(int count) {
+        DepartmentService departmentService = context.getBean(DepartmentService.class);
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            DepartmentDto department = new DepartmentDto();
+            department.setName("Department " + (i + 1));
+            department.setCode(String.format("D%03d", i + 1));
+            department.setDescription("Load test department " + (i + 1));
+            department.setLocation("Building " + (i % 5 + 1));
+            department.setCostCenter("CC-" + (1000 + i));
+            // Breadth-first tree with a single root
+            department.setParentDepartmentId(i == 0 ? null : ids.get((i - 1) / DEPARTMENT_FAN_OUT));
+            ids.add(departmentService.createDepartment(department).getId());
+        }
+        return ids;
+    }
+
+    private List<Long> seedDesignations(List<Long> departmentIds) {
+        DesignationRepository designationRepository = context.getBean(DesignationRepository.class);
+        DepartmentService departmentService = context.getBean(DepartmentService.class);
+        List<Designation> designations = new ArrayList<>();
+        for (Long departmentId : departmentIds) {
+            String code = departmentService.getDepartmentById(departmentId).getCode();
+            for (int level = 1; level <= DESIGNATIONS_PER_DEPARTMENT; level++) {
+                Designation designation = new Designation("Level " + level + " " + code, code + "-L" + level, level);
+                designations.add(designation);
+            }
+        }
+        return designationRepository.saveAll(designations).stream().map(Designation::getId).toList();
+    }
+
+    private List<EmployeeDto> seedEmployees(List<Long> departmentIds, List<Long> designationIds, int count) {
+        EmployeeService employeeService = context.getBean(EmployeeService.class);
+
+        // One head per department first, so every other employee has a manager to report to
+        List<EmployeeDto> heads = new ArrayList<>(departmentIds.size());
+        for (int i = 0; i < departmentIds.size(); i++) {
+            heads.add(newEmployee(i + 1, departmentIds.get(i), designationIds.get(i * DESIGNATIONS_PER_DEPARTMENT)));
+        }
+        List<EmployeeDto> employees = new ArrayList<>(count);
+        employees.addAll(employeeService.createEmployees(heads));
+
+        List<EmployeeDto> batch = new ArrayList<>(EMPLOYEE_BATCH_SIZE);
+        for (int number = departmentIds.size() + 1; number <= count; number++) {
+            int department = number % departmentIds.size();
+            int level = 1 + number % (DESIGNATIONS_PER_DEPARTMENT - 1);
+            EmployeeDto employee = newEmployee(number, departmentIds.get(department),
+                    designationIds.get(department * DESIGNATIONS_PER_DEPARTMENT + level));
+            employee.setManagerId(employees.get(department).getId());
+            batch.add(employee);
+            if (batch.size() == EMPLOYEE_BATCH_SIZE) {
+                employees.addAll(employeeService.createEmployees(batch));
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            employees.addAll(employeeService.createEmployees(batch));
+        }
+        return employees;
+    }
+
+    static EmployeeDto newEmployee(long number, Long departmentId, Long designationId) {
+        EmployeeDto employee = new EmployeeDto();
+        String firstName = FIRST_NAMES[(int) (number % FIRST_NAMES.length)];
+        String lastName = LAST_NAMES[(int) ((number / FIRST_NAMES.length) % LAST_NAMES.length)];
+        employee.setEmployeeId(String.format("EMP%07d", number));
+        employee.setFirstName(firstName);
+        employee.setLastName(lastName);
+        employee.setEmail(firstName.toLowerCase() + "." + lastName.toLowerCase() + "." + number + "@company.com");
+        employee.setPhoneNumber(String.format("+1-555-%04d", number % 10000));
+        employee.setDepartmentId(departmentId);
+        employee.setDesignationId(designationId);
+        employee.setEmploymentType(Employee.EmploymentType.values()[(int) (number % Employee.EmploymentType.values().length)]);
+        employee.setDateOfJoining(LocalDate.of(2010, 1, 1).plusDays(number % 5000));
+        employee.setDateOfBirth(LocalDate.of(1965, 1, 1).plusDays((number * 37) % 14000));
+        employee.setAddress(number + " Market Street");
+        employee.setStatus(Employee.EmployeeStatus.ACTIVE);
+        return employee;
+    }
+
+    static EmployeeDto copyForUpdate(EmployeeDto original) {
+        EmployeeDto update = new EmployeeDto();
+        update.setEmployeeId(original.getEmployeeId());
+        update.setFirstName(original.getFirstName());
+        update.setLastName(original.getLastName());
+        update.setEmail(original.getEmail());
+        update.setPhoneNumber(original.getPhoneNumber());
+        update.setDepartmentId(original.getDepartmentId());
+        update.setDesignationId(original.getDesignationId());
+        update.setEmploymentType(original.getEmploymentType());
+        update.setPreviousEmployer(original.getPreviousEmployer());
+        update.setDateOfJoining(original.getDateOfJoining());
+        update.setDateOfBirth(original.getDateOfBirth());
+        update.setAddress(original.getAddress());
+        update.setStatus(original.getStatus());
+        update.setManagerId(original.getManagerId());
+        return update;
+    }
+}
@@ -0,0 +1,87 @@
+package com.employeems.loadtest;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Per-client latency samples. Each virtual client owns one recorder, so recording is a
+ * plain array append; recorders are merged once the run is over.
+ */
+final class LatencyRecorder {
+
+    private final Map<Operation, Samples> samples = new EnumMap<>(Operation.class);
+
+    void record(Operation operation, long latencyNanos, boolean success) {
+        Samples operationSamples = samples.computeIfAbsent(operation, ignored -> new Samples());
+        operationSamples.add(latencyNanos);
+        if (!success) {
+            operationSamples.errors++;
+        }
+    }
+
+    void mergeInto(LatencyRecorder target) {
+        samples.forEach((operation, operationSamples) ->
+                target.samples.computeIfAbsent(operation, ignored -> new Samples()).addAll(operationSamples));
+    }
+
+    Map<Operation, Samples> samples() {
+        return samples;
+    }
+
+    static final class Samples {
+
+        private long[] values = new long[1024];
+
+        private int size;
+
+        private long errors;
+
+        private boolean sorted;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+            sorted = false;
+        }
+
+        void addAll(Samples other) {
+            if (size + other.size > values.length) {
+                values = Arrays.copyOf(values, Math.max(values.length * 2, size + other.size));
+            }
+            System.arraycopy(other.values, 0, values, size, other.size);
+            size += other.size;
+            errors += other.errors;
+            sorted = false;
+        }
+
+        int count() {
+            return size;
+        }
+
+        long errors() {
+            return errors;
+        }
+
+        /**
+         * Nearest-rank percentile in nanoseconds, {@code quantile} in (0, 1].
+         */
+        long percentile(double quantile) {
+            if (size == 0) {
+                return 0;
+            }
+            if (!sorted) {
+                Arrays.sort(values, 0, size);
+                sorted = true;
+            }
+            int rank = (int) Math.ceil(quantile * size);
+            return values[Math.min(size, Math.max(rank, 1)) - 1];
+        }
+
+        long max() {
+            return percentile(1.0);
+        }
+    }
+}
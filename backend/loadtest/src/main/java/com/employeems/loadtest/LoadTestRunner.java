@@ -0,0 +1,249 @@
+package com.employeems.loadtest;
+
+import com.employeems.EmployeeManagementApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Boots the backend on a random port against a private in-memory H2 database, seeds it,
+ * logs in through {@code /api/auth/login} and drives a weighted request mix with one
+ * virtual thread per simulated client.
+ *
+ * <p>Latency is measured closed-loop (each client waits for its response before sending
+ * the next request). SQL statements per request are measured separately afterwards by
+ * replaying each operation sequentially against Hibernate statistics, since statement
+ * counts cannot be attributed to individual requests while clients run concurrently.
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        List<String> applicationArgs = new ArrayList<>(List.of(args));
+        // Command-line arguments take precedence over application.properties
+        applicationArgs.addAll(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                "--spring.h2.console.enabled=false",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--spring.jpa.properties.hibernate.generate_statistics=true",
+                "--logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(EmployeeManagementApplication.class)
+                .run(applicationArgs.toArray(String[]::new))) {
+            run(context, settings);
+        }
+    }
+
+    private static void run(ConfigurableApplicationContext context, LoadTestSettings settings) throws Exception {
+        ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+        Statistics statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+        log("Seeding %d departments and %d employees", settings.departments(), settings.employees());
+        long seedStart = System.nanoTime();
+        SeededDataset dataset = new DatasetSeeder(context).seed(settings.departments(), settings.employees());
+        log("Seeded in %d ms", (System.nanoTime() - seedStart) / 1_000_000);
+
+        String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                + context.getEnvironment().getProperty("server.servlet.context-path", "");
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            ApiClient client = new ApiClient(baseUrl, objectMapper, executor);
+            client.login(DatasetSeeder.USERNAME, DatasetSeeder.PASSWORD);
+
+            WeightedMix mix = new WeightedMix(settings.mix());
+
+            log("Warming up for %ds with %d clients", settings.warmup().toSeconds(), settings.clients());
+            drive(executor, client, dataset, mix, settings.clients(), settings.warmup());
+
+            log("Measuring for %ds with %d clients", settings.duration().toSeconds(), settings.clients());
+            long start = System.nanoTime();
+            LatencyRecorder recorder = drive(executor, client, dataset, mix, settings.clients(), settings.duration());
+            double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+            log("Replaying %d sequential requests per operation to count SQL statements", settings.sqlSamples());
+            Map<Operation, Double> statementsPerRequest = countStatements(client, dataset, statistics, settings);
+
+            report(settings, recorder, elapsedSeconds, statementsPerRequest, objectMapper);
+        }
+    }
+
+    private static LatencyRecorder drive(ExecutorService executor, ApiClient client, SeededDataset dataset,
+                                         WeightedMix mix, int clients, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<LatencyRecorder>> futures = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            futures.add(executor.submit(() -> {
+                LatencyRecorder recorder = new LatencyRecorder();
+                while (System.nanoTime() < deadline) {
+                    Operation operation = mix.next();
+                    long begin = System.nanoTime();
+                    boolean success;
+                    try {
+                        HttpResponse<byte[]> response = client.send(operation.request(client, dataset));
+                        success = response.statusCode() < 400;
+                    } catch (IOException e) {
+                        success = false;
+                    }
+                    recorder.record(operation, System.nanoTime() - begin, success);
+                }
+                return recorder;
+            }));
+        }
+
+        LatencyRecorder merged = new LatencyRecorder();
+        for (Future<LatencyRecorder> future : futures) {
+            future.get().mergeInto(merged);
+        }
+        return merged;
+    }
+
+    private static Map<Operation, Double> countStatements(ApiClient client, SeededDataset dataset,
+                                                          Statistics statistics, LoadTestSettings settings)
+            throws IOException, InterruptedException {
+        Map<Operation, Double> statementsPerRequest = new EnumMap<>(Operation.class);
+        for (Operation operation : settings.mix().keySet()) {
+            long before = statistics.getPrepareStatementCount();
+            for (int i = 0; i < settings.sqlSamples(); i++) {
+                client.send(operation.request(client, dataset));
+            }
+            long statements = statistics.getPrepareStatementCount() - before;
+            statementsPerRequest.put(operation, (double) statements / settings.sqlSamples());
+        }
+        return statementsPerRequest;
+    }
+
+    private static void report(LoadTestSettings settings, LatencyRecorder recorder, double elapsedSeconds,
+                               Map<Operation, Double> statementsPerRequest, ObjectMapper objectMapper) throws IOException {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("%n%-18s %9s %7s %9s %9s %9s %9s %9s %9s %8s%n",
+                "operation", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "p999 ms", "max ms", "sql/req"));
+
+        Map<String, Object> operations = new LinkedHashMap<>();
+        LatencyRecorder.Samples nonAuthentication = new LatencyRecorder.Samples();
+        long totalRequests = 0;
+        long totalErrors = 0;
+        for (Map.Entry<Operation, LatencyRecorder.Samples> entry : recorder.samples().entrySet()) {
+            Operation operation = entry.getKey();
+            LatencyRecorder.Samples samples = entry.getValue();
+            double sql = statementsPerRequest.getOrDefault(operation, 0.0);
+            totalRequests += samples.count();
+            totalErrors += samples.errors();
+            if (!operation.isAuthentication()) {
+                nonAuthentication.addAll(samples);
+            }
+
+            appendRow(table, operation.label(), samples, elapsedSeconds, String.format("%8.1f", sql));
+            Map<String, Object> result = result(samples, elapsedSeconds);
+            result.put("sqlStatementsPerRequest", sql);
+            operations.put(operation.label(), result);
+        }
+        // Combined latency of everything but logins; compare it between the default and login-flood mixes
+        boolean reportNonAuthentication = nonAuthentication.count() > 0;
+        if (reportNonAuthentication) {
+            appendRow(table, "non-auth", nonAuthentication, elapsedSeconds, "");
+        }
+        table.append(String.format("%-18s %9d %7d %9.1f%n", "total", totalRequests, totalErrors, totalRequests / elapsedSeconds));
+        System.out.println(table);
+
+        if (settings.output() != null) {
+            Map<String, Object> document = new LinkedHashMap<>();
+            document.put("departments", settings.departments());
+            document.put("employees", settings.employees());
+            document.put("clients", settings.clients());
+            document.put("durationSeconds", elapsedSeconds);
+            document.put("mix", settings.mix().entrySet().stream()
+                    .collect(LinkedHashMap::new, (map, e) -> map.put(e.getKey().label(), e.getValue()), Map::putAll));
+            document.put("operations", operations);
+            if (reportNonAuthentication) {
+                document.put("nonAuthentication", result(nonAuthentication, elapsedSeconds));
+            }
+
+            File output = new File(settings.output());
+            if (output.getParentFile() != null) {
+                output.getParentFile().mkdirs();
+            }
+            objectMapper.writer().with(SerializationFeature.INDENT_OUTPUT).writeValue(output, document);
+            log("Results written to %s", output.getAbsolutePath());
+        }
+    }
+
+    private static void appendRow(StringBuilder table, String label, LatencyRecorder.Samples samples,
+                                  double elapsedSeconds, String sql) {
+        table.append(String.format("%-18s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %s%n",
+                label, samples.count(), samples.errors(), samples.count() / elapsedSeconds,
+                millis(samples.percentile(0.50)), millis(samples.percentile(0.95)),
+                millis(samples.percentile(0.99)), millis(samples.percentile(0.999)),
+                millis(samples.max()), sql));
+    }
+
+    private static Map<String, Object> result(LatencyRecorder.Samples samples, double elapsedSeconds) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("requests", samples.count());
+        result.put("errors", samples.errors());
+        result.put("throughputPerSecond", samples.count() / elapsedSeconds);
+        result.put("p50Ms", millis(samples.percentile(0.50)));
+        result.put("p95Ms", millis(samples.percentile(0.95)));
+        result.put("p99Ms", millis(samples.percentile(0.99)));
+        result.put("p999Ms", millis(samples.percentile(0.999)));
+        result.put("maxMs", millis(samples.max()));
+        return result;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.println("[loadtest] " + String.format(format, args));
+    }
+
+    private static final class WeightedMix {
+
+        private final Operation[] operations;
+
+        private final int[] cumulativeWeights;
+
+        WeightedMix(Map<Operation, Integer> weights) {
+            operations = weights.keySet().toArray(Operation[]::new);
+            cumulativeWeights = new int[operations.length];
+            int total = 0;
+            for (int i = 0; i < operations.length; i++) {
+                total += weights.get(operations[i]);
+                cumulativeWeights[i] = total;
+            }
+        }
+
+        Operation next() {
+            int roll = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            for (int i = 0; i < cumulativeWeights.length; i++) {
+                if (roll < cumulativeWeights[i]) {
+                    return operations[i];
+                }
+            }
+            return operations[operations.length - 1];
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.employeems.loadtest;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Run parameters, read from {@code loadtest.*} system properties.
+ */
+record LoadTestSettings(
+        int departments,
+        int employees,
+        int clients,
+        Duration warmup,
+        Duration duration,
+        int sqlSamples,
+        Map<Operation, Integer> mix,
+        String output) {
+
+    static final String DEFAULT_MIX =
+            "employees.list=30,employees.search=20,employees.get=25,employees.create=5,employees.update=5,"
+            + "departments.list=10,departments.get=5";
+
+    // The default mix with as many logins again on top, to check that hashing does not starve the other endpoints
+    static final String LOGIN_FLOOD_MIX = DEFAULT_MIX + ",auth.login=100";
+
+    // Names accepted by loadtest.mix in place of an explicit <operation>=<weight> list
+    private static final Map<String, String> NAMED_MIXES = Map.of("default", DEFAULT_MIX, "login-flood", LOGIN_FLOOD_MIX);
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                intProperty("loadtest.departments", 20),
+                intProperty("loadtest.employees", 5000),
+                intProperty("loadtest.clients", 64),
+                Duration.ofSeconds(intProperty("loadtest.warmup-seconds", 15)),
+                Duration.ofSeconds(intProperty("loadtest.duration-seconds", 60)),
+                intProperty("loadtest.sql-samples", 20),
+                parseMix(namedOrExplicitMix(System.getProperty("loadtest.mix", DEFAULT_MIX))),
+                System.getProperty("loadtest.output"));
+    }
+
+    static String namedOrExplicitMix(String spec) {
+        return NAMED_MIXES.getOrDefault(spec.trim(), spec);
+    }
+
+    static Map<Operation, Integer> parseMix(String spec) {
+        Map<Operation, Integer> mix = new LinkedHashMap<>();
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry '" + entry + "', expected <operation>=<weight>");
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight for " + parts[0]);
+            }
+            if (weight > 0) {
+                mix.put(Operation.byName(parts[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("Mix must contain at least one operation with a positive weight");
+        }
+        return mix;
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        String value = System.getProperty(name);
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+}
@@ -0,0 +1,106 @@
+package com.employeems.loadtest;
+
+import com.employeems.dto.EmployeeDto;
+import com.employeems.dto.LoginRequest;
+
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The requests a virtual client can issue, named as they appear in {@code loadtest.mix}.
+ */
+enum Operation {
+
+    EMPLOYEES_LIST("employees.list") {
+        @Override
+        HttpRequest request(ApiClient client, SeededDataset data) {
+            int pages = Math.max(1, data.employeeCount() / PAGE_SIZE);
+            int page = ThreadLocalRandom.current().nextInt(pages);
+            return client.get("/api/employees?page=" + page + "&size=" + PAGE_SIZE + "&sortBy=lastName").build();
+        }
+    },
+
+    EMPLOYEES_SEARCH("employees.search") {
+        @Override
+        HttpRequest request(ApiClient client, SeededDataset data) {
+            String term = URLEncoder.encode(data.randomSearchTerm(), StandardCharsets.UTF_8);
+            return client.get("/api/employees/search?q=" + term + "&size=" + PAGE_SIZE).build();
+        }
+    },
+
+    EMPLOYEES_GET("employees.get") {
+        @Override
+        HttpRequest request(ApiClient client, SeededDataset data) {
+            return client.get("/api/employees/" + data.randomEmployee().getId()).build();
+        }
+    },
+
+    EMPLOYEES_CREATE("employees.create") {
+        @Override
+        HttpRequest request(ApiClient client, SeededDataset data) {
+            long number = data.nextEmployeeNumber();
+            EmployeeDto employee = DatasetSeeder.newEmployee(number, data.randomDepartmentId(), data.randomDesignationId());
+            return client.post("/api/employees", employee).build();
+        }
+    },
+
+    EMPLOYEES_UPDATE("employees.update") {
+        @Override
+        HttpRequest request(ApiClient client, SeededDataset data) {
+            EmployeeDto original = data.randomEmployee();
+            EmployeeDto update = DatasetSeeder.copyForUpdate(original);
+            update.setPhoneNumber(String.format("+1-555-%04d", ThreadLocalRandom.current().nextInt(10000)));
+            return client.put("/api/employees/" + original.getId(), update).build();
+        }
+    },
+
+    DEPARTMENTS_LIST("departments.list") {
+        @Override
+        HttpRequest request(ApiClient client, SeededDataset data) {
+            return client.get("/api/departments").build();
+        }
+    },
+
+    DEPARTMENTS_GET("departments.get") {
+        @Override
+        HttpRequest request(ApiClient client, SeededDataset data) {
+            return client.get("/api/departments/" + data.randomDepartmentId()).build();
+        }
+    },
+
+    AUTH_LOGIN("auth.login") {
+        @Override
+        HttpRequest request(ApiClient client, SeededDataset data) {
+            return client.post("/api/auth/login", new LoginRequest(DatasetSeeder.USERNAME, DatasetSeeder.PASSWORD)).build();
+        }
+    };
+
+    static final int PAGE_SIZE = 20;
+
+    private final String label;
+
+    Operation(String label) {
+        this.label = label;
+    }
+
+    String label() {
+        return label;
+    }
+
+    boolean isAuthentication() {
+        return label.startsWith("auth.");
+    }
+
+    abstract HttpRequest request(ApiClient client, SeededDataset data);
+
+    static Operation byName(String label) {
+        for (Operation operation : values()) {
+            if (operation.label.equals(label)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation '" + label + "'");
+    }
+}
@@ -0,0 +1,64 @@
+package com.employeems.loadtest;
+
+import com.employeems.dto.EmployeeDto;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ids and search terms the workload draws from. Employees created during the run are
+ * not added back, so reads always hit rows that existed before the clock started.
+ */
+final class SeededDataset {
+
+    private final List<Long> departmentIds;
+
+    private final List<Long> designationIds;
+
+    private final List<EmployeeDto> employees;
+
+    private final List<String> searchTerms;
+
+    private final AtomicLong nextEmployeeNumber;
+
+    SeededDataset(List<Long> departmentIds, List<Long> designationIds, List<EmployeeDto> employees, List<String> searchTerms) {
+        this.departmentIds = List.copyOf(departmentIds);
+        this.designationIds = List.copyOf(designationIds);
+        this.employees = List.copyOf(employees);
+        this.searchTerms = List.copyOf(searchTerms);
+        this.nextEmployeeNumber = new AtomicLong(employees.size() + 1L);
+    }
+
+    Long randomDepartmentId() {
+        return pick(departmentIds);
+    }
+
+    Long randomDesignationId() {
+        return pick(designationIds);
+    }
+
+    EmployeeDto randomEmployee() {
+        return pick(employees);
+    }
+
+    String randomSearchTerm() {
+        return pick(searchTerms);
+    }
+
+    long nextEmployeeNumber() {
+        return nextEmployeeNumber.getAndIncrement();
+    }
+
+    int employeeCount() {
+        return employees.size();
+    }
+
+    int departmentCount() {
+        return departmentIds.size();
+    }
+
+    private static <T> T pick(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+}
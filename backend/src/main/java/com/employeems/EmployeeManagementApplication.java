@@ -3,9 +3,11 @@ package com.employeems;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableScheduling
 public class EmployeeManagementApplication {
     public static void main(String[] args) {
         SpringApplication.run(EmployeeManagementApplication.class, args);
@@ -0,0 +1,16 @@
+package com.employeems.analytics;
+
+import com.employeems.entity.Employee;
+
+/**
+ * Restricts a workforce report to a department (optionally with its
+ * sub-departments), a designation and/or an employment type. Null components
+ * match every employee.
+ */
+public record WorkforceFilter(Long departmentId, boolean includeSubDepartments, Long designationId,
+                              Employee.EmploymentType employmentType) {
+
+    public static WorkforceFilter all() {
+        return new WorkforceFilter(null, false, null, null);
+    }
+}
@@ -0,0 +1,22 @@
+package com.employeems.analytics;
+
+import com.employeems.entity.Employee;
+
+import java.time.LocalDate;
+
+/**
+ * The reporting attributes of one employee, as loaded into the workforce
+ * snapshot. Any component other than the id may be null.
+ */
+public record WorkforceRecord(Long id, Long departmentId, Long designationId, Employee.EmployeeStatus status,
+                              Employee.EmploymentType employmentType, LocalDate dateOfJoining,
+                              LocalDate dateOfBirth, LocalDate dateOfLeaving) {
+
+    public static WorkforceRecord of(Employee employee) {
+        return new WorkforceRecord(employee.getId(),
+                employee.getDepartment() != null ? employee.getDepartment().getId() : null,
+                employee.getDesignation() != null ? employee.getDesignation().getId() : null,
+                employee.getStatus(), employee.getEmploymentType(), employee.getDateOfJoining(),
+                employee.getDateOfBirth(), employee.getDateOfLeaving());
+    }
+}
@@ -0,0 +1,444 @@
+package com.employeems.analytics;
+
+import com.employeems.entity.Employee;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Column-oriented in-memory copy of the attributes workforce reports need.
+ * Each employee occupies one row slot across parallel primitive arrays:
+ * department and designation ids are dictionary-encoded to int codes, enums
+ * are stored as byte ordinals and dates as int epoch days. Reports scan the
+ * columns (in parallel above a size threshold) under a read lock; entity
+ * events update single rows under the write lock.
+ *
+ * An employee counts as employed on a day if they joined on or before it
+ * (or have no joining date) and either left on or after it or, without a
+ * leaving date, are not TERMINATED.
+ */
+@Component
+public class WorkforceSnapshot {
+
+    private static final int NONE = -1;
+
+    // Filter code for an id that is not in the dictionary; matches no row
+    private static final int UNKNOWN = -2;
+
+    private static final int ANY = Integer.MIN_VALUE;
+
+    private static final int NO_DAY = Integer.MIN_VALUE;
+
+    private static final byte TERMINATED = (byte) Employee.EmployeeStatus.TERMINATED.ordinal();
+
+    // Below this many rows a sequential scan beats the fork/join overhead
+    private static final int PARALLEL_THRESHOLD = 20_000;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+
+    private int rowCount;
+
+    private boolean[] live = new boolean[0];
+    private int[] department = new int[0];
+    private int[] designation = new int[0];
+    private byte[] status = new byte[0];
+    private byte[] employmentType = new byte[0];
+    private int[] joinDay = new int[0];
+    private int[] birthDay = new int[0];
+    private int[] leaveDay = new int[0];
+
+    private final IdDictionary departments = new IdDictionary();
+    private final IdDictionary designations = new IdDictionary();
+
+    // Indexed by department code
+    private int[] parentDepartment = new int[0];
+    private boolean[] departmentExists = new boolean[0];
+
+    public enum DateColumn { JOINING, BIRTH }
+
+    public record DepartmentHeadcount(Long departmentId, Long parentDepartmentId, long headcount, long totalHeadcount) {}
+
+    public void upsert(WorkforceRecord record) {
+        lock.writeLock().lock();
+        try {
+            writeRow(record);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long employeeId) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsById.remove(employeeId);
+            if (slot != null) {
+                live[slot] = false;
+                freeSlots.push(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void putDepartment(Long departmentId, Long parentDepartmentId) {
+        lock.writeLock().lock();
+        try {
+            writeDepartment(departmentId, parentDepartmentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeDepartment(Long departmentId) {
+        lock.writeLock().lock();
+        try {
+            int code = departments.find(departmentId);
+            if (code >= 0) {
+                departmentExists[code] = false;
+                parentDepartment[code] = NONE;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Replaces the whole snapshot; departmentParents maps each department id to its parent id or null. */
+    public void replaceAll(Collection<WorkforceRecord> records, Map<Long, Long> departmentParents) {
+        lock.writeLock().lock();
+        try {
+            slotsById.clear();
+            freeSlots.clear();
+            rowCount = 0;
+            departments.clear();
+            designations.clear();
+            parentDepartment = new int[0];
+            departmentExists = new boolean[0];
+            resizeRows(records.size());
+            departmentParents.forEach(this::writeDepartment);
+            records.forEach(this::writeRow);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Employees employed on each of the given days, which must be ascending. */
+    public long[] headcountOn(int[] days, WorkforceFilter filter) {
+        lock.readLock().lock();
+        try {
+            RowFilter rows = resolve(filter);
+            // Each row is employed over a contiguous run of days; count it with +1/-1 at the run's ends
+            long[] delta = scan(days.length + 1, rows, (acc, i) -> {
+                int from = joinDay[i] == NO_DAY ? 0 : lowerBound(days, joinDay[i]);
+                int to;
+                if (leaveDay[i] != NO_DAY) {
+                    to = lowerBound(days, leaveDay[i] + 1);
+                } else {
+                    to = status[i] == TERMINATED ? from : days.length;
+                }
+                if (to > from) {
+                    acc[from]++;
+                    acc[to]--;
+                }
+            });
+            long[] headcount = new long[days.length];
+            long running = 0;
+            for (int k = 0; k < days.length; k++) {
+                running += delta[k];
+                headcount[k] = running;
+            }
+            return headcount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Leavers per period, where period k spans [boundaries[k], boundaries[k + 1]) in ascending epoch days. */
+    public long[] leaversBetween(int[] boundaries, WorkforceFilter filter) {
+        lock.readLock().lock();
+        try {
+            RowFilter rows = resolve(filter);
+            int first = boundaries[0];
+            int end = boundaries[boundaries.length - 1];
+            return scan(boundaries.length - 1, rows, (acc, i) -> {
+                int leave = leaveDay[i];
+                if (leave != NO_DAY && leave >= first && leave < end) {
+                    acc[lowerBound(boundaries, leave + 1) - 1]++;
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Buckets employees employed on asOfDay by a date column. thresholds must
+     * be descending; an employee falls into bucket k when its date is on or
+     * before the first k thresholds, so bucket 0 holds the most recent dates.
+     * Employees without the date are left out.
+     */
+    public long[] distribution(DateColumn column, int asOfDay, int[] thresholds, WorkforceFilter filter) {
+        lock.readLock().lock();
+        try {
+            RowFilter rows = resolve(filter);
+            int[] values = column == DateColumn.JOINING ? joinDay : birthDay;
+            return scan(thresholds.length + 1, rows, (acc, i) -> {
+                int value = values[i];
+                if (value == NO_DAY || value > asOfDay || !employedOn(i, asOfDay)) {
+                    return;
+                }
+                int bucket = 0;
+                while (bucket < thresholds.length && value <= thresholds[bucket]) {
+                    bucket++;
+                }
+                acc[bucket]++;
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Headcount on asOfDay per department, both direct and including every
+     * descendant department. Employees without a department are not included.
+     */
+    public List<DepartmentHeadcount> headcountByDepartment(int asOfDay) {
+        lock.readLock().lock();
+        try {
+            int departmentCount = departments.size();
+            long[] direct = scan(departmentCount, resolve(WorkforceFilter.all()), (acc, i) -> {
+                if (department[i] >= 0 && employedOn(i, asOfDay)) {
+                    acc[department[i]]++;
+                }
+            });
+            long[] total = direct.clone();
+            for (int code = 0; code < departmentCount; code++) {
+                if (direct[code] == 0) {
+                    continue;
+                }
+                // Bounded walk so that a cyclic parent chain cannot loop forever
+                int ancestor = parentDepartment[code];
+                for (int depth = 0; ancestor >= 0 && depth < departmentCount; depth++) {
+                    total[ancestor] += direct[code];
+                    ancestor = parentDepartment[ancestor];
+                }
+            }
+            List<DepartmentHeadcount> result = new ArrayList<>();
+            for (int code = 0; code < departmentCount; code++) {
+                if (departmentExists[code] || direct[code] > 0) {
+                    int parent = parentDepartment[code];
+                    result.add(new DepartmentHeadcount(departments.idOf(code),
+                            parent >= 0 ? departments.idOf(parent) : null, direct[code], total[code]));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long[] scan(int width, RowFilter filter, ObjIntConsumer<long[]> accumulator) {
+        IntStream rows = IntStream.range(0, rowCount);
+        if (rowCount >= PARALLEL_THRESHOLD) {
+            rows = rows.parallel();
+        }
+        return rows.filter(i -> live[i] && matches(i, filter))
+                .collect(() -> new long[width], accumulator, WorkforceSnapshot::addInto);
+    }
+
+    private boolean employedOn(int row, int day) {
+        if (joinDay[row] != NO_DAY && joinDay[row] > day) {
+            return false;
+        }
+        return leaveDay[row] != NO_DAY ? leaveDay[row] >= day : status[row] != TERMINATED;
+    }
+
+    private boolean matches(int row, RowFilter filter) {
+        if (filter.departmentMask() != null
+                && (department[row] < 0 || !filter.departmentMask()[department[row]])) {
+            return false;
+        }
+        if (filter.designation() != ANY && designation[row] != filter.designation()) {
+            return false;
+        }
+        return filter.employmentType() == ANY || employmentType[row] == filter.employmentType();
+    }
+
+    private RowFilter resolve(WorkforceFilter filter) {
+        boolean[] departmentMask = null;
+        if (filter.departmentId() != null) {
+            departmentMask = new boolean[departments.size()];
+            int target = departments.find(filter.departmentId());
+            if (target >= 0) {
+                for (int code = 0; code < departmentMask.length; code++) {
+                    departmentMask[code] = code == target
+                            || (filter.includeSubDepartments() && hasAncestor(code, target));
+                }
+            }
+        }
+        int designationCode = filter.designationId() != null ? designations.find(filter.designationId()) : ANY;
+        int employmentTypeCode = filter.employmentType() != null ? filter.employmentType().ordinal() : ANY;
+        return new RowFilter(departmentMask, designationCode, employmentTypeCode);
+    }
+
+    private boolean hasAncestor(int code, int ancestor) {
+        int current = parentDepartment[code];
+        for (int depth = 0; current >= 0 && depth < parentDepartment.length; depth++) {
+            if (current == ancestor) {
+                return true;
+            }
+            current = parentDepartment[current];
+        }
+        return false;
+    }
+
+    private void writeRow(WorkforceRecord record) {
+        Integer slot = slotsById.get(record.id());
+        if (slot == null) {
+            if (!freeSlots.isEmpty()) {
+                slot = freeSlots.pop();
+            } else {
+                if (rowCount == live.length) {
+                    resizeRows(Math.max(16, live.length * 2));
+                }
+                slot = rowCount++;
+            }
+            slotsById.put(record.id(), slot);
+        }
+        live[slot] = true;
+        department[slot] = departments.intern(record.departmentId());
+        designation[slot] = designations.intern(record.designationId());
+        status[slot] = record.status() != null ? (byte) record.status().ordinal() : NONE;
+        employmentType[slot] = record.employmentType() != null ? (byte) record.employmentType().ordinal() : NONE;
+        joinDay[slot] = toDay(record.dateOfJoining());
+        birthDay[slot] = toDay(record.dateOfBirth());
+        leaveDay[slot] = toDay(record.dateOfLeaving());
+        ensureDepartmentCapacity();
+    }
+
+    private void writeDepartment(Long departmentId, Long parentDepartmentId) {
+        int code = departments.intern(departmentId);
+        int parent = departments.intern(parentDepartmentId);
+        ensureDepartmentCapacity();
+        parentDepartment[code] = parent;
+        departmentExists[code] = true;
+    }
+
+    private void resizeRows(int capacity) {
+        if (capacity <= live.length) {
+            return;
+        }
+        live = Arrays.copyOf(live, capacity);
+        department = Arrays.copyOf(department, capacity);
+        designation = Arrays.copyOf(designation, capacity);
+        status = Arrays.copyOf(status, capacity);
+        employmentType = Arrays.copyOf(employmentType, capacity);
+        joinDay = Arrays.copyOf(joinDay, capacity);
+        birthDay = Arrays.copyOf(birthDay, capacity);
+        leaveDay = Arrays.copyOf(leaveDay, capacity);
+    }
+
+    private void ensureDepartmentCapacity() {
+        int previous = parentDepartment.length;
+        if (departments.size() > previous) {
+            int capacity = Math.max(16, Math.max(departments.size(), previous * 2));
+            parentDepartment = Arrays.copyOf(parentDepartment, capacity);
+            Arrays.fill(parentDepartment, previous, capacity, NONE);
+            departmentExists = Arrays.copyOf(departmentExists, capacity);
+        }
+    }
+
+    private static int toDay(LocalDate date) {
+        return date != null ? (int) date.toEpochDay() : NO_DAY;
+    }
+
+    // First index whose value is >= key
+    private static int lowerBound(int[] sorted, int key) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static void addInto(long[] target, long[] source) {
+        for (int k = 0; k < target.length; k++) {
+            target[k] += source[k];
+        }
+    }
+
+    private record RowFilter(boolean[] departmentMask, int designation, int employmentType) {}
+
+    /** Maps entity ids to dense int codes; codes are never reused until clear(). */
+    private static final class IdDictionary {
+
+        private final Map<Long, Integer> codes = new HashMap<>();
+
+        private long[] ids = new long[16];
+
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        int intern(Long id) {
+            if (id == null) {
+                return NONE;
+            }
+            Integer code = codes.get(id);
+            if (code == null) {
+                if (size == ids.length) {
+                    ids = Arrays.copyOf(ids, size * 2);
+                }
+                ids[size] = id;
+                code = size++;
+                codes.put(id, code);
+            }
+            return code;
+        }
+
+        int find(Long id) {
+            Integer code = codes.get(id);
+            return code != null ? code : UNKNOWN;
+        }
+
+        long idOf(int code) {
+            return ids[code];
+        }
+
+        void clear() {
+            codes.clear();
+            size = 0;
+        }
+    }
+}
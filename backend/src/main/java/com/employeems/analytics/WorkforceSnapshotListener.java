@@ -0,0 +1,46 @@
+package com.employeems.analytics;
+
+import com.employeems.entity.Department;
+import com.employeems.entity.Employee;
+import com.employeems.util.AfterCommit;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the workforce snapshot in step with Employee and Department writes.
+ * Registered on both entities; changes are applied after commit so reports
+ * never see rolled-back data.
+ */
+@Component
+public class WorkforceSnapshotListener {
+
+    @Autowired
+    private WorkforceSnapshot snapshot;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        if (entity instanceof Employee employee) {
+            WorkforceRecord record = WorkforceRecord.of(employee);
+            AfterCommit.run(() -> snapshot.upsert(record));
+        } else if (entity instanceof Department department) {
+            Long id = department.getId();
+            Long parentId = department.getParentDepartment() != null ? department.getParentDepartment().getId() : null;
+            AfterCommit.run(() -> snapshot.putDepartment(id, parentId));
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (entity instanceof Employee employee) {
+            Long id = employee.getId();
+            AfterCommit.run(() -> snapshot.remove(id));
+        } else if (entity instanceof Department department) {
+            Long id = department.getId();
+            AfterCommit.run(() -> snapshot.removeDepartment(id));
+        }
+    }
+}
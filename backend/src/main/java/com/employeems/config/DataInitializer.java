@@ -1,6 +1,9 @@
 package com.employeems.config;
 
+import com.employeems.service.EmployeeFacetService;
+import com.employeems.service.EmployeeService;
 import com.employeems.service.RolePermissionService;
+import com.employeems.service.WorkforceReportService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
@@ -11,9 +14,30 @@ public class DataInitializer implements CommandLineRunner {
     @Autowired
     private RolePermissionService rolePermissionService;
 
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeFacetService employeeFacetService;
+
+    @Autowired
+    private WorkforceReportService workforceReportService;
+
     @Override
     public void run(String... args) throws Exception {
         // Initialize default roles and permissions
         rolePermissionService.initializeDefaultRolesAndPermissions();
+
+        // Materialize reporting lines for employees that predate the column
+        employeeService.backfillReportingPaths();
+
+        // Load existing employees into the in-memory search index
+        employeeService.rebuildSearchIndex();
+
+        // Seed the facet counters that serve the unfiltered directory facets
+        employeeFacetService.rebuildCounters();
+
+        // Load the columnar snapshot behind the workforce reports
+        workforceReportService.rebuildSnapshot();
     }
 }
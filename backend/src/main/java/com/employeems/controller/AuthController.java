@@ -4,12 +4,14 @@ import com.employeems.dto.AuthResponse;
 import com.employeems.dto.LoginRequest;
 import com.employeems.dto.RegisterRequest;
 import com.employeems.service.AuthService;
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
+@Timed("employeems.controller")
 @RequestMapping("/api/auth")
 @CrossOrigin(origins = "*")
 public class AuthController {
@@ -1,17 +1,21 @@
 package com.employeems.controller;
 
 import com.employeems.dto.DepartmentDto;
+import com.employeems.dto.ResourceVersion;
 import com.employeems.service.DepartmentService;
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
 @RestController
+@Timed("employeems.controller")
 @RequestMapping("/api/departments")
 @CrossOrigin(origins = "*")
 public class DepartmentController {
@@ -21,16 +25,31 @@ public class DepartmentController {
 
     @GetMapping
     @PreAuthorize("hasRole('HR_STAFF') or hasRole('HR_MANAGER') or hasRole('DEPARTMENT_MANAGER') or hasRole('SYSTEM_ADMIN')")
-    public ResponseEntity<List<DepartmentDto>> getAllDepartments() {
+    public ResponseEntity<List<DepartmentDto>> getAllDepartments(WebRequest request) {
+        ResourceVersion version = departmentService.getDepartmentsVersion();
+        if (request.checkNotModified(version.getETag(), version.getLastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(ResourceVersion.CACHE_CONTROL).build();
+        }
         List<DepartmentDto> departments = departmentService.getAllDepartments();
+        return ResponseEntity.ok().cacheControl(ResourceVersion.CACHE_CONTROL).body(departments);
+    }
+
+    @GetMapping("/tree")
+    @PreAuthorize("hasRole('HR_STAFF') or hasRole('HR_MANAGER') or hasRole('DEPARTMENT_MANAGER') or hasRole('SYSTEM_ADMIN')")
+    public ResponseEntity<List<DepartmentDto>> getDepartmentTree(@RequestParam(required = false) Integer maxDepth) {
+        List<DepartmentDto> departments = departmentService.getDepartmentTree(maxDepth);
         return ResponseEntity.ok(departments);
     }
 
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('HR_STAFF') or hasRole('HR_MANAGER') or hasRole('DEPARTMENT_MANAGER') or hasRole('SYSTEM_ADMIN')")
-    public ResponseEntity<DepartmentDto> getDepartmentById(@PathVariable Long id) {
+    public ResponseEntity<DepartmentDto> getDepartmentById(@PathVariable Long id, WebRequest request) {
+        ResourceVersion version = departmentService.getDepartmentVersion(id);
+        if (request.checkNotModified(version.getETag(), version.getLastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(ResourceVersion.CACHE_CONTROL).build();
+        }
         DepartmentDto department = departmentService.getDepartmentById(id);
-        return ResponseEntity.ok(department);
+        return ResponseEntity.ok().cacheControl(ResourceVersion.CACHE_CONTROL).body(department);
     }
 
     @GetMapping("/root")
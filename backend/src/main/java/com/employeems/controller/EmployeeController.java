@@ -1,22 +1,37 @@
 package com.employeems.controller;
 
+import com.employeems.dto.EmployeeCursorPage;
 import com.employeems.dto.EmployeeDto;
+import com.employeems.dto.EmployeeFacets;
+import com.employeems.dto.EmployeeLookupRequest;
+import com.employeems.dto.EmployeeLookupResponse;
+import com.employeems.dto.EmployeeSummary;
+import com.employeems.dto.ResourceVersion;
 import com.employeems.entity.Employee;
+import com.employeems.repository.EmployeeSortField;
+import com.employeems.service.EmployeeExportService;
+import com.employeems.service.EmployeeFacetService;
 import com.employeems.service.EmployeeService;
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
 @RestController
+@Timed("employeems.controller")
 @RequestMapping("/api/employees")
 @CrossOrigin(origins = "*")
 public class EmployeeController {
@@ -24,27 +39,86 @@ public class EmployeeController {
     @Autowired
     private EmployeeService employeeService;
 
+    @Autowired
+    private EmployeeExportService employeeExportService;
+
+    @Autowired
+    private EmployeeFacetService employeeFacetService;
+
     @GetMapping
     @PreAuthorize("hasRole('HR_STAFF') or hasRole('HR_MANAGER') or hasRole('SYSTEM_ADMIN')")
-    public ResponseEntity<Page<EmployeeDto>> getAllEmployees(
+    public ResponseEntity<Page<EmployeeSummary>> getAllEmployees(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "firstName") String sortBy,
             @RequestParam(defaultValue = "asc") String sortDir) {
         
-        Sort sort = sortDir.equalsIgnoreCase("desc") ? 
-            Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Sort.Direction direction = sortDir.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Pageable pageable = PageRequest.of(page, size, EmployeeSortField.fromProperty(sortBy).toSort(direction));
+        
+        Page<EmployeeSummary> employees = employeeService.getAllEmployees(pageable);
+        return ResponseEntity.ok(employees);
+    }
+
+    // Cursor mode: selected when the "after" parameter is present (empty for the first page)
+    @GetMapping(params = "after")
+    @PreAuthorize("hasRole('HR_STAFF') or hasRole('HR_MANAGER') or hasRole('SYSTEM_ADMIN')")
+    public ResponseEntity<EmployeeCursorPage> getAllEmployeesAfter(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "firstName") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
         
-        Page<EmployeeDto> employees = employeeService.getAllEmployees(pageable);
+        EmployeeCursorPage employees = employeeService.getAllEmployees(after, size, sortBy, sortDir, includeTotal);
         return ResponseEntity.ok(employees);
     }
 
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('HR_STAFF') or hasRole('HR_MANAGER') or hasRole('SYSTEM_ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportEmployees(
+            @RequestParam(defaultValue = "ndjson") String format) {
+        
+        EmployeeExportService.Format exportFormat;
+        try {
+            exportFormat = EmployeeExportService.Format.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Unsupported export format: " + format);
+        }
+        MediaType mediaType = exportFormat == EmployeeExportService.Format.CSV ?
+            new MediaType("text", "csv") : MediaType.APPLICATION_NDJSON;
+        String fileName = "employees." + exportFormat.name().toLowerCase();
+        
+        StreamingResponseBody body = outputStream -> employeeExportService.export(exportFormat, outputStream);
+        return ResponseEntity.ok()
+            .contentType(mediaType)
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+            .body(body);
+    }
+
+    @GetMapping("/facets")
+    @PreAuthorize("hasRole('HR_STAFF') or hasRole('HR_MANAGER') or hasRole('SYSTEM_ADMIN')")
+    public ResponseEntity<EmployeeFacets> getEmployeeFacets(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(required = false) Long designationId,
+            @RequestParam(required = false) Employee.EmployeeStatus status,
+            @RequestParam(required = false) Employee.EmploymentType employmentType) {
+        
+        EmployeeFacets facets = employeeFacetService.getFacets(q, departmentId, designationId, status, employmentType);
+        return ResponseEntity.ok(facets);
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('HR_STAFF') or hasRole('HR_MANAGER') or hasRole('SYSTEM_ADMIN') or @employeeService.isCurrentUser(#id)")
-    public ResponseEntity<EmployeeDto> getEmployeeById(@PathVariable Long id) {
+    public ResponseEntity<EmployeeDto> getEmployeeById(@PathVariable Long id, WebRequest request) {
+        // checkNotModified sets ETag/Last-Modified and, on a match, the 304 status
+        ResourceVersion version = employeeService.getEmployeeVersion(id);
+        if (request.checkNotModified(version.getETag(), version.getLastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(ResourceVersion.CACHE_CONTROL).build();
+        }
         EmployeeDto employee = employeeService.getEmployeeById(id);
-        return ResponseEntity.ok(employee);
+        return ResponseEntity.ok().cacheControl(ResourceVersion.CACHE_CONTROL).body(employee);
     }
 
     @GetMapping("/employee-id/{employeeId}")
@@ -54,6 +128,13 @@ public class EmployeeController {
         return ResponseEntity.ok(employee);
     }
 
+    @PostMapping("/lookup")
+    @PreAuthorize("hasRole('HR_STAFF') or hasRole('HR_MANAGER') or hasRole('SYSTEM_ADMIN')")
+    public ResponseEntity<EmployeeLookupResponse> lookupEmployees(@Valid @RequestBody EmployeeLookupRequest request) {
+        EmployeeLookupResponse response = employeeService.lookupEmployees(request);
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping
     @PreAuthorize("hasRole('HR_STAFF') or hasRole('HR_MANAGER') or hasRole('SYSTEM_ADMIN')")
     public ResponseEntity<EmployeeDto> createEmployee(@Valid @RequestBody EmployeeDto employeeDto) {
@@ -61,6 +142,13 @@ public class EmployeeController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdEmployee);
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('HR_STAFF') or hasRole('HR_MANAGER') or hasRole('SYSTEM_ADMIN')")
+    public ResponseEntity<List<EmployeeDto>> createEmployees(@RequestBody List<@Valid EmployeeDto> employeeDtos) {
+        List<EmployeeDto> createdEmployees = employeeService.createEmployees(employeeDtos);
+        return ResponseEntity.status(HttpStatus.CREATED).body(createdEmployees);
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('HR_STAFF') or hasRole('HR_MANAGER') or hasRole('SYSTEM_ADMIN')")
     public ResponseEntity<EmployeeDto> updateEmployee(@PathVariable Long id, @Valid @RequestBody EmployeeDto employeeDto) {
@@ -77,52 +165,135 @@ public class EmployeeController {
 
     @GetMapping("/search")
     @PreAuthorize("hasRole('HR_STAFF') or hasRole('HR_MANAGER') or hasRole('SYSTEM_ADMIN')")
-    public ResponseEntity<Page<EmployeeDto>> searchEmployees(
+    public ResponseEntity<Page<EmployeeSummary>> searchEmployees(
             @RequestParam String q,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         
         Pageable pageable = PageRequest.of(page, size);
-        Page<EmployeeDto> employees = employeeService.searchEmployees(q, pageable);
+        Page<EmployeeSummary> employees = employeeService.searchEmployees(q, pageable);
+        return ResponseEntity.ok(employees);
+    }
+
+    @GetMapping(value = "/search", params = "after")
+    @PreAuthorize("hasRole('HR_STAFF') or hasRole('HR_MANAGER') or hasRole('SYSTEM_ADMIN')")
+    public ResponseEntity<EmployeeCursorPage> searchEmployeesAfter(
+            @RequestParam String q,
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        
+        EmployeeCursorPage employees = employeeService.searchEmployees(q, after, size, sortBy, sortDir, includeTotal);
         return ResponseEntity.ok(employees);
     }
 
     @GetMapping("/department/{departmentId}")
     @PreAuthorize("hasRole('HR_STAFF') or hasRole('HR_MANAGER') or hasRole('DEPARTMENT_MANAGER') or hasRole('SYSTEM_ADMIN')")
-    public ResponseEntity<Page<EmployeeDto>> getEmployeesByDepartment(
+    public ResponseEntity<Page<EmployeeSummary>> getEmployeesByDepartment(
             @PathVariable Long departmentId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         
-        Pageable pageable = PageRequest.of(page, size);
-        Page<EmployeeDto> employees = employeeService.getEmployeesByDepartment(departmentId, pageable);
+        // Ordered by id so the (filter column, id) index serves both filter and sort
+        Pageable pageable = PageRequest.of(page, size, Sort.by("id"));
+        Page<EmployeeSummary> employees = employeeService.getEmployeesByDepartment(departmentId, pageable);
+        return ResponseEntity.ok(employees);
+    }
+
+    @GetMapping(value = "/department/{departmentId}", params = "after")
+    @PreAuthorize("hasRole('HR_STAFF') or hasRole('HR_MANAGER') or hasRole('DEPARTMENT_MANAGER') or hasRole('SYSTEM_ADMIN')")
+    public ResponseEntity<EmployeeCursorPage> getEmployeesByDepartmentAfter(
+            @PathVariable Long departmentId,
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        
+        EmployeeCursorPage employees = employeeService.getEmployeesByDepartment(departmentId, after, size, sortBy, sortDir, includeTotal);
         return ResponseEntity.ok(employees);
     }
 
     @GetMapping("/designation/{designationId}")
     @PreAuthorize("hasRole('HR_STAFF') or hasRole('HR_MANAGER') or hasRole('SYSTEM_ADMIN')")
-    public ResponseEntity<Page<EmployeeDto>> getEmployeesByDesignation(
+    public ResponseEntity<Page<EmployeeSummary>> getEmployeesByDesignation(
             @PathVariable Long designationId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         
-        Pageable pageable = PageRequest.of(page, size);
-        Page<EmployeeDto> employees = employeeService.getEmployeesByDesignation(designationId, pageable);
+        Pageable pageable = PageRequest.of(page, size, Sort.by("id"));
+        Page<EmployeeSummary> employees = employeeService.getEmployeesByDesignation(designationId, pageable);
+        return ResponseEntity.ok(employees);
+    }
+
+    @GetMapping(value = "/designation/{designationId}", params = "after")
+    @PreAuthorize("hasRole('HR_STAFF') or hasRole('HR_MANAGER') or hasRole('SYSTEM_ADMIN')")
+    public ResponseEntity<EmployeeCursorPage> getEmployeesByDesignationAfter(
+            @PathVariable Long designationId,
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        
+        EmployeeCursorPage employees = employeeService.getEmployeesByDesignation(designationId, after, size, sortBy, sortDir, includeTotal);
         return ResponseEntity.ok(employees);
     }
 
     @GetMapping("/status/{status}")
     @PreAuthorize("hasRole('HR_STAFF') or hasRole('HR_MANAGER') or hasRole('SYSTEM_ADMIN')")
-    public ResponseEntity<Page<EmployeeDto>> getEmployeesByStatus(
+    public ResponseEntity<Page<EmployeeSummary>> getEmployeesByStatus(
             @PathVariable Employee.EmployeeStatus status,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         
-        Pageable pageable = PageRequest.of(page, size);
-        Page<EmployeeDto> employees = employeeService.getEmployeesByStatus(status, pageable);
+        Pageable pageable = PageRequest.of(page, size, Sort.by("id"));
+        Page<EmployeeSummary> employees = employeeService.getEmployeesByStatus(status, pageable);
         return ResponseEntity.ok(employees);
     }
 
+    @GetMapping(value = "/status/{status}", params = "after")
+    @PreAuthorize("hasRole('HR_STAFF') or hasRole('HR_MANAGER') or hasRole('SYSTEM_ADMIN')")
+    public ResponseEntity<EmployeeCursorPage> getEmployeesByStatusAfter(
+            @PathVariable Employee.EmployeeStatus status,
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        
+        EmployeeCursorPage employees = employeeService.getEmployeesByStatus(status, after, size, sortBy, sortDir, includeTotal);
+        return ResponseEntity.ok(employees);
+    }
+
+    @GetMapping("/{id}/reports")
+    @PreAuthorize("hasRole('HR_STAFF') or hasRole('HR_MANAGER') or hasRole('DEPARTMENT_MANAGER') or hasRole('SYSTEM_ADMIN')")
+    public ResponseEntity<Page<EmployeeDto>> getTransitiveReports(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        Pageable pageable = PageRequest.of(page, size, Sort.by("reportingPath"));
+        Page<EmployeeDto> employees = employeeService.getTransitiveReports(id, pageable);
+        return ResponseEntity.ok(employees);
+    }
+
+    @GetMapping("/{id}/management-chain")
+    @PreAuthorize("hasRole('HR_STAFF') or hasRole('HR_MANAGER') or hasRole('DEPARTMENT_MANAGER') or hasRole('SYSTEM_ADMIN')")
+    public ResponseEntity<List<EmployeeDto>> getManagementChain(@PathVariable Long id) {
+        List<EmployeeDto> managers = employeeService.getManagementChain(id);
+        return ResponseEntity.ok(managers);
+    }
+
+    @GetMapping("/{id}/subtree-size")
+    @PreAuthorize("hasRole('HR_STAFF') or hasRole('HR_MANAGER') or hasRole('DEPARTMENT_MANAGER') or hasRole('SYSTEM_ADMIN')")
+    public ResponseEntity<Long> getReportingSubtreeSize(@PathVariable Long id) {
+        long subtreeSize = employeeService.getReportingSubtreeSize(id);
+        return ResponseEntity.ok(subtreeSize);
+    }
+
     @GetMapping("/manager/{managerId}")
     @PreAuthorize("hasRole('HR_STAFF') or hasRole('HR_MANAGER') or hasRole('DEPARTMENT_MANAGER') or hasRole('SYSTEM_ADMIN')")
     public ResponseEntity<List<EmployeeDto>> getEmployeesByManager(@PathVariable Long managerId) {
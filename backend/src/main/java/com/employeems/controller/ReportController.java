@@ -0,0 +1,87 @@
+package com.employeems.controller;
+
+import com.employeems.analytics.WorkforceFilter;
+import com.employeems.dto.AttritionPoint;
+import com.employeems.dto.DepartmentRollup;
+import com.employeems.dto.DistributionBucket;
+import com.employeems.dto.HeadcountPoint;
+import com.employeems.entity.Employee;
+import com.employeems.service.WorkforceReportService;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+@RestController
+@Timed("employeems.controller")
+@RequestMapping("/api/reports")
+@CrossOrigin(origins = "*")
+@PreAuthorize("@permissionEvaluator.hasPermission(authentication, 'REPORTS_READ')")
+public class ReportController {
+
+    @Autowired
+    private WorkforceReportService workforceReportService;
+
+    @GetMapping("/headcount")
+    public ResponseEntity<List<HeadcountPoint>> getHeadcountOverTime(
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to,
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(defaultValue = "true") boolean includeSubDepartments,
+            @RequestParam(required = false) Long designationId,
+            @RequestParam(required = false) Employee.EmploymentType employmentType) {
+
+        WorkforceFilter filter = new WorkforceFilter(departmentId, includeSubDepartments, designationId, employmentType);
+        return ResponseEntity.ok(workforceReportService.getHeadcountOverTime(from, to, filter));
+    }
+
+    @GetMapping("/attrition")
+    public ResponseEntity<List<AttritionPoint>> getAttritionByMonth(
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to,
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(defaultValue = "true") boolean includeSubDepartments,
+            @RequestParam(required = false) Long designationId,
+            @RequestParam(required = false) Employee.EmploymentType employmentType) {
+
+        WorkforceFilter filter = new WorkforceFilter(departmentId, includeSubDepartments, designationId, employmentType);
+        return ResponseEntity.ok(workforceReportService.getAttritionByMonth(from, to, filter));
+    }
+
+    @GetMapping("/tenure")
+    public ResponseEntity<List<DistributionBucket>> getTenureDistribution(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf,
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(defaultValue = "true") boolean includeSubDepartments,
+            @RequestParam(required = false) Long designationId,
+            @RequestParam(required = false) Employee.EmploymentType employmentType) {
+
+        WorkforceFilter filter = new WorkforceFilter(departmentId, includeSubDepartments, designationId, employmentType);
+        return ResponseEntity.ok(workforceReportService.getTenureDistribution(asOf, filter));
+    }
+
+    @GetMapping("/age")
+    public ResponseEntity<List<DistributionBucket>> getAgeDistribution(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf,
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(defaultValue = "true") boolean includeSubDepartments,
+            @RequestParam(required = false) Long designationId,
+            @RequestParam(required = false) Employee.EmploymentType employmentType) {
+
+        WorkforceFilter filter = new WorkforceFilter(departmentId, includeSubDepartments, designationId, employmentType);
+        return ResponseEntity.ok(workforceReportService.getAgeDistribution(asOf, filter));
+    }
+
+    @GetMapping("/departments")
+    public ResponseEntity<List<DepartmentRollup>> getDepartmentRollup(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+
+        return ResponseEntity.ok(workforceReportService.getDepartmentRollup(asOf));
+    }
+}
@@ -0,0 +1,30 @@
+package com.employeems.controller;
+
+import com.employeems.dto.AuthResponse;
+import com.employeems.dto.RoleAssignmentRequest;
+import com.employeems.service.RolePermissionService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@Timed("employeems.controller")
+@RequestMapping("/api/users")
+@CrossOrigin(origins = "*")
+public class UserController {
+
+    @Autowired
+    private RolePermissionService rolePermissionService;
+
+    // Self-registration always yields EMPLOYEE; any other role is granted here
+    @PutMapping("/{id}/role")
+    @PreAuthorize("hasRole('SYSTEM_ADMIN')")
+    public ResponseEntity<AuthResponse.UserInfo> assignRole(@PathVariable Long id,
+                                                            @Valid @RequestBody RoleAssignmentRequest request) {
+        AuthResponse.UserInfo user = new AuthResponse.UserInfo(rolePermissionService.assignRole(id, request.getRole()));
+        return ResponseEntity.ok(user);
+    }
+}
@@ -0,0 +1,47 @@
+package com.employeems.dto;
+
+import java.time.YearMonth;
+
+/**
+ * Leavers in one month, with the headcount on its first and last day. The rate
+ * is leavers divided by the average of the two headcounts (0 when both are 0).
+ */
+public class AttritionPoint {
+
+    private YearMonth month;
+
+    private long leavers;
+
+    private long startHeadcount;
+
+    private long endHeadcount;
+
+    private double attritionRate;
+
+    // Constructors
+    public AttritionPoint() {}
+
+    public AttritionPoint(YearMonth month, long leavers, long startHeadcount, long endHeadcount, double attritionRate) {
+        this.month = month;
+        this.leavers = leavers;
+        this.startHeadcount = startHeadcount;
+        this.endHeadcount = endHeadcount;
+        this.attritionRate = attritionRate;
+    }
+
+    // Getters and Setters
+    public YearMonth getMonth() { return month; }
+    public void setMonth(YearMonth month) { this.month = month; }
+
+    public long getLeavers() { return leavers; }
+    public void setLeavers(long leavers) { this.leavers = leavers; }
+
+    public long getStartHeadcount() { return startHeadcount; }
+    public void setStartHeadcount(long startHeadcount) { this.startHeadcount = startHeadcount; }
+
+    public long getEndHeadcount() { return endHeadcount; }
+    public void setEndHeadcount(long endHeadcount) { this.endHeadcount = endHeadcount; }
+
+    public double getAttritionRate() { return attritionRate; }
+    public void setAttritionRate(double attritionRate) { this.attritionRate = attritionRate; }
+}
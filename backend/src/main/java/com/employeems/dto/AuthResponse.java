@@ -68,7 +68,7 @@ public class AuthResponse {
         private String email;
         private String employeeId;
         private String department;
-        private User.Role role;
+        private String role;
         private User.UserStatus status;
 
         // Constructors
@@ -80,7 +80,7 @@ public class AuthResponse {
             this.email = user.getEmail();
             this.employeeId = user.getEmployeeId();
             this.department = user.getDepartment();
-            this.role = user.getRole();
+            this.role = user.getRole() != null ? user.getRole().getCode() : null;
             this.status = user.getStatus();
         }
 
@@ -100,8 +100,8 @@ public class AuthResponse {
         public String getDepartment() { return department; }
         public void setDepartment(String department) { this.department = department; }
 
-        public User.Role getRole() { return role; }
-        public void setRole(User.Role role) { this.role = role; }
+        public String getRole() { return role; }
+        public void setRole(String role) { this.role = role; }
 
         public User.UserStatus getStatus() { return status; }
         public void setStatus(User.UserStatus status) { this.status = status; }
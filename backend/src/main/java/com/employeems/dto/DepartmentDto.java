@@ -4,8 +4,8 @@ import com.employeems.entity.Department;
 import jakarta.validation.constraints.NotBlank;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class DepartmentDto {
     
@@ -44,7 +44,9 @@ public class DepartmentDto {
     // Constructors
     public DepartmentDto() {}
 
-    public DepartmentDto(Department department) {
+    // Flat mapping that leaves lazy collections untouched; used when the caller
+    // supplies the headcount and assembles sub-departments itself.
+    public DepartmentDto(Department department, Long employeeCount) {
         this.id = department.getId();
         this.name = department.getName();
         this.description = department.getDescription();
@@ -52,19 +54,13 @@ public class DepartmentDto {
         this.managerId = department.getManager() != null ? department.getManager().getId() : null;
         this.managerName = department.getManager() != null ? department.getManager().getFullName() : null;
         this.parentDepartmentId = department.getParentDepartment() != null ? department.getParentDepartment().getId() : null;
-        this.parentDepartmentName = department.getParentDepartment() != null ? department.getParentDepartment().getName() : null;
         this.location = department.getLocation();
         this.costCenter = department.getCostCenter();
         this.status = department.getStatus();
-        this.employeeCount = department.getEmployees() != null ? (long) department.getEmployees().size() : 0L;
+        this.employeeCount = employeeCount;
         this.createdAt = department.getCreatedAt();
         this.updatedAt = department.getUpdatedAt();
-        
-        if (department.getSubDepartments() != null) {
-            this.subDepartments = department.getSubDepartments().stream()
-                .map(DepartmentDto::new)
-                .collect(Collectors.toList());
-        }
+        this.subDepartments = new ArrayList<>();
     }
 
     // Getters and Setters
@@ -0,0 +1,39 @@
+package com.employeems.dto;
+
+/**
+ * Headcount of a department: employees assigned to it directly, and the total
+ * including every department below it in the hierarchy.
+ */
+public class DepartmentRollup {
+
+    private Long departmentId;
+
+    private Long parentDepartmentId;
+
+    private long headcount;
+
+    private long totalHeadcount;
+
+    // Constructors
+    public DepartmentRollup() {}
+
+    public DepartmentRollup(Long departmentId, Long parentDepartmentId, long headcount, long totalHeadcount) {
+        this.departmentId = departmentId;
+        this.parentDepartmentId = parentDepartmentId;
+        this.headcount = headcount;
+        this.totalHeadcount = totalHeadcount;
+    }
+
+    // Getters and Setters
+    public Long getDepartmentId() { return departmentId; }
+    public void setDepartmentId(Long departmentId) { this.departmentId = departmentId; }
+
+    public Long getParentDepartmentId() { return parentDepartmentId; }
+    public void setParentDepartmentId(Long parentDepartmentId) { this.parentDepartmentId = parentDepartmentId; }
+
+    public long getHeadcount() { return headcount; }
+    public void setHeadcount(long headcount) { this.headcount = headcount; }
+
+    public long getTotalHeadcount() { return totalHeadcount; }
+    public void setTotalHeadcount(long totalHeadcount) { this.totalHeadcount = totalHeadcount; }
+}
@@ -0,0 +1,33 @@
+package com.employeems.dto;
+
+/**
+ * One bucket of a tenure or age distribution, covering [minYears, maxYears).
+ * maxYears is null for the open-ended last bucket.
+ */
+public class DistributionBucket {
+
+    private int minYears;
+
+    private Integer maxYears;
+
+    private long count;
+
+    // Constructors
+    public DistributionBucket() {}
+
+    public DistributionBucket(int minYears, Integer maxYears, long count) {
+        this.minYears = minYears;
+        this.maxYears = maxYears;
+        this.count = count;
+    }
+
+    // Getters and Setters
+    public int getMinYears() { return minYears; }
+    public void setMinYears(int minYears) { this.minYears = minYears; }
+
+    public Integer getMaxYears() { return maxYears; }
+    public void setMaxYears(Integer maxYears) { this.maxYears = maxYears; }
+
+    public long getCount() { return count; }
+    public void setCount(long count) { this.count = count; }
+}
@@ -0,0 +1,43 @@
+package com.employeems.dto;
+
+import java.util.List;
+
+public class EmployeeCursorPage {
+
+    private List<EmployeeSummary> content;
+
+    private int size;
+
+    private boolean hasNext;
+
+    private String nextCursor; // Opaque token to pass as "after" for the next page
+
+    private Long totalElements; // Only populated when explicitly requested
+
+    // Constructors
+    public EmployeeCursorPage() {}
+
+    public EmployeeCursorPage(List<EmployeeSummary> content, boolean hasNext, String nextCursor, Long totalElements) {
+        this.content = content;
+        this.size = content.size();
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+        this.totalElements = totalElements;
+    }
+
+    // Getters and Setters
+    public List<EmployeeSummary> getContent() { return content; }
+    public void setContent(List<EmployeeSummary> content) { this.content = content; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+
+    public boolean isHasNext() { return hasNext; }
+    public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+    public Long getTotalElements() { return totalElements; }
+    public void setTotalElements(Long totalElements) { this.totalElements = totalElements; }
+}
@@ -45,6 +45,8 @@ public class EmployeeDto {
     
     private LocalDate dateOfBirth;
     
+    private LocalDate dateOfLeaving;
+    
     private String address;
     
     private Employee.EmployeeStatus status;
@@ -75,6 +77,7 @@ public class EmployeeDto {
         this.previousEmployer = employee.getPreviousEmployer();
         this.dateOfJoining = employee.getDateOfJoining();
         this.dateOfBirth = employee.getDateOfBirth();
+        this.dateOfLeaving = employee.getDateOfLeaving();
         this.address = employee.getAddress();
         this.status = employee.getStatus();
         this.managerId = employee.getManager() != null ? employee.getManager().getId() : null;
@@ -126,6 +129,9 @@ public class EmployeeDto {
     public LocalDate getDateOfBirth() { return dateOfBirth; }
     public void setDateOfBirth(LocalDate dateOfBirth) { this.dateOfBirth = dateOfBirth; }
 
+    public LocalDate getDateOfLeaving() { return dateOfLeaving; }
+    public void setDateOfLeaving(LocalDate dateOfLeaving) { this.dateOfLeaving = dateOfLeaving; }
+
     public String getAddress() { return address; }
     public void setAddress(String address) { this.address = address; }
 
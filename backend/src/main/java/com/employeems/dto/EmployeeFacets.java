@@ -0,0 +1,50 @@
+package com.employeems.dto;
+
+import com.employeems.entity.Employee;
+
+import java.util.Map;
+
+/**
+ * Employee counts per facet value. Employees without a value for a facet
+ * (no department, say) count towards total but not towards that facet.
+ */
+public class EmployeeFacets {
+
+    private long total;
+
+    private Map<Employee.EmployeeStatus, Long> byStatus;
+
+    private Map<Long, Long> byDepartment;
+
+    private Map<Long, Long> byDesignation;
+
+    private Map<Employee.EmploymentType, Long> byEmploymentType;
+
+    // Constructors
+    public EmployeeFacets() {}
+
+    public EmployeeFacets(long total, Map<Employee.EmployeeStatus, Long> byStatus, Map<Long, Long> byDepartment,
+                          Map<Long, Long> byDesignation, Map<Employee.EmploymentType, Long> byEmploymentType) {
+        this.total = total;
+        this.byStatus = byStatus;
+        this.byDepartment = byDepartment;
+        this.byDesignation = byDesignation;
+        this.byEmploymentType = byEmploymentType;
+    }
+
+    // Getters and Setters
+    public long getTotal() { return total; }
+    public void setTotal(long total) { this.total = total; }
+
+    public Map<Employee.EmployeeStatus, Long> getByStatus() { return byStatus; }
+    public void setByStatus(Map<Employee.EmployeeStatus, Long> byStatus) { this.byStatus = byStatus; }
+
+    public Map<Long, Long> getByDepartment() { return byDepartment; }
+    public void setByDepartment(Map<Long, Long> byDepartment) { this.byDepartment = byDepartment; }
+
+    public Map<Long, Long> getByDesignation() { return byDesignation; }
+    public void setByDesignation(Map<Long, Long> byDesignation) { this.byDesignation = byDesignation; }
+
+    public Map<Employee.EmploymentType, Long> getByEmploymentType() { return byEmploymentType; }
+    public void setByEmploymentType(Map<Employee.EmploymentType, Long> byEmploymentType) { this.byEmploymentType = byEmploymentType; }
+}
@@ -0,0 +1,36 @@
+package com.employeems.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Body of POST /api/employees/lookup: database ids, business employee IDs, or both.
+ */
+public class EmployeeLookupRequest {
+
+    // EmployeeService also caps both lists together at the same number of keys
+    @Size(max = 5000, message = "At most 5000 ids can be looked up")
+    private List<@NotNull(message = "Lookup keys must not be null") Long> ids = new ArrayList<>();
+
+    @Size(max = 5000, message = "At most 5000 employee IDs can be looked up")
+    private List<@NotBlank(message = "Lookup keys must not be blank") String> employeeIds = new ArrayList<>();
+
+    // Constructors
+    public EmployeeLookupRequest() {}
+
+    public EmployeeLookupRequest(List<Long> ids, List<String> employeeIds) {
+        this.ids = ids;
+        this.employeeIds = employeeIds;
+    }
+
+    // Getters and Setters
+    public List<Long> getIds() { return ids; }
+    public void setIds(List<Long> ids) { this.ids = ids; }
+
+    public List<String> getEmployeeIds() { return employeeIds; }
+    public void setEmployeeIds(List<String> employeeIds) { this.employeeIds = employeeIds; }
+}
@@ -0,0 +1,43 @@
+package com.employeems.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of a multi-get. Found employees are keyed by the value the caller sent,
+ * in request order; inputs that matched nothing are listed in the missing lists.
+ */
+public class EmployeeLookupResponse {
+
+    private Map<Long, EmployeeDto> byId;
+
+    private Map<String, EmployeeDto> byEmployeeId;
+
+    private List<Long> missingIds;
+
+    private List<String> missingEmployeeIds;
+
+    // Constructors
+    public EmployeeLookupResponse() {}
+
+    public EmployeeLookupResponse(Map<Long, EmployeeDto> byId, Map<String, EmployeeDto> byEmployeeId,
+                                  List<Long> missingIds, List<String> missingEmployeeIds) {
+        this.byId = byId;
+        this.byEmployeeId = byEmployeeId;
+        this.missingIds = missingIds;
+        this.missingEmployeeIds = missingEmployeeIds;
+    }
+
+    // Getters and Setters
+    public Map<Long, EmployeeDto> getById() { return byId; }
+    public void setById(Map<Long, EmployeeDto> byId) { this.byId = byId; }
+
+    public Map<String, EmployeeDto> getByEmployeeId() { return byEmployeeId; }
+    public void setByEmployeeId(Map<String, EmployeeDto> byEmployeeId) { this.byEmployeeId = byEmployeeId; }
+
+    public List<Long> getMissingIds() { return missingIds; }
+    public void setMissingIds(List<Long> missingIds) { this.missingIds = missingIds; }
+
+    public List<String> getMissingEmployeeIds() { return missingEmployeeIds; }
+    public void setMissingEmployeeIds(List<String> missingEmployeeIds) { this.missingEmployeeIds = missingEmployeeIds; }
+}
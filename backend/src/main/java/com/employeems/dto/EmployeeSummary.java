@@ -0,0 +1,115 @@
+package com.employeems.dto;
+
+import com.employeems.entity.Employee;
+
+import java.time.LocalDate;
+
+/**
+ * Read model for employee list views. Built directly by a JPQL constructor
+ * expression (EmployeeRepository.SUMMARY_SELECT) from the columns a list row
+ * shows, so no Employee entity is loaded. Field names match EmployeeDto.
+ */
+public class EmployeeSummary {
+
+    private Long id;
+
+    private String employeeId;
+
+    private String firstName;
+
+    private String lastName;
+
+    private String email;
+
+    private String phoneNumber;
+
+    private Long departmentId;
+
+    private String departmentName;
+
+    private Long designationId;
+
+    private String designationTitle;
+
+    private Long managerId;
+
+    private String managerName;
+
+    private Employee.EmploymentType employmentType;
+
+    private Employee.EmployeeStatus status;
+
+    private LocalDate dateOfJoining;
+
+    // Constructors
+    public EmployeeSummary() {}
+
+    // Argument order is part of the JPQL constructor expression
+    public EmployeeSummary(Long id, String employeeId, String firstName, String lastName, String email,
+                           String phoneNumber, Long departmentId, String departmentName, Long designationId,
+                           String designationTitle, Long managerId, String managerName,
+                           Employee.EmploymentType employmentType, Employee.EmployeeStatus status,
+                           LocalDate dateOfJoining) {
+        this.id = id;
+        this.employeeId = employeeId;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.phoneNumber = phoneNumber;
+        this.departmentId = departmentId;
+        this.departmentName = departmentName;
+        this.designationId = designationId;
+        this.designationTitle = designationTitle;
+        this.managerId = managerId;
+        this.managerName = managerName;
+        this.employmentType = employmentType;
+        this.status = status;
+        this.dateOfJoining = dateOfJoining;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getEmployeeId() { return employeeId; }
+    public void setEmployeeId(String employeeId) { this.employeeId = employeeId; }
+
+    public String getFirstName() { return firstName; }
+    public void setFirstName(String firstName) { this.firstName = firstName; }
+
+    public String getLastName() { return lastName; }
+    public void setLastName(String lastName) { this.lastName = lastName; }
+
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+
+    public String getPhoneNumber() { return phoneNumber; }
+    public void setPhoneNumber(String phoneNumber) { this.phoneNumber = phoneNumber; }
+
+    public Long getDepartmentId() { return departmentId; }
+    public void setDepartmentId(Long departmentId) { this.departmentId = departmentId; }
+
+    public String getDepartmentName() { return departmentName; }
+    public void setDepartmentName(String departmentName) { this.departmentName = departmentName; }
+
+    public Long getDesignationId() { return designationId; }
+    public void setDesignationId(Long designationId) { this.designationId = designationId; }
+
+    public String getDesignationTitle() { return designationTitle; }
+    public void setDesignationTitle(String designationTitle) { this.designationTitle = designationTitle; }
+
+    public Long getManagerId() { return managerId; }
+    public void setManagerId(Long managerId) { this.managerId = managerId; }
+
+    public String getManagerName() { return managerName; }
+    public void setManagerName(String managerName) { this.managerName = managerName; }
+
+    public Employee.EmploymentType getEmploymentType() { return employmentType; }
+    public void setEmploymentType(Employee.EmploymentType employmentType) { this.employmentType = employmentType; }
+
+    public Employee.EmployeeStatus getStatus() { return status; }
+    public void setStatus(Employee.EmployeeStatus status) { this.status = status; }
+
+    public LocalDate getDateOfJoining() { return dateOfJoining; }
+    public void setDateOfJoining(LocalDate dateOfJoining) { this.dateOfJoining = dateOfJoining; }
+}
@@ -0,0 +1,35 @@
+package com.employeems.dto;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * Headcount at the end of one month of a headcount-over-time report.
+ */
+public class HeadcountPoint {
+
+    private YearMonth month;
+
+    private LocalDate date;
+
+    private long headcount;
+
+    // Constructors
+    public HeadcountPoint() {}
+
+    public HeadcountPoint(YearMonth month, LocalDate date, long headcount) {
+        this.month = month;
+        this.date = date;
+        this.headcount = headcount;
+    }
+
+    // Getters and Setters
+    public YearMonth getMonth() { return month; }
+    public void setMonth(YearMonth month) { this.month = month; }
+
+    public LocalDate getDate() { return date; }
+    public void setDate(LocalDate date) { this.date = date; }
+
+    public long getHeadcount() { return headcount; }
+    public void setHeadcount(long headcount) { this.headcount = headcount; }
+}
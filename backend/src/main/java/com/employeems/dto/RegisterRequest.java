@@ -1,6 +1,5 @@
 package com.employeems.dto;
 
-import com.employeems.entity.User;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
@@ -28,8 +27,6 @@ public class RegisterRequest {
     private String employeeId;
     
     private String department;
-    
-    private User.Role role = User.Role.EMPLOYEE; // Default role
 
     // Constructors
     public RegisterRequest() {}
@@ -82,12 +79,4 @@ public class RegisterRequest {
     public void setDepartment(String department) {
         this.department = department;
     }
-
-    public User.Role getRole() {
-        return role;
-    }
-
-    public void setRole(User.Role role) {
-        this.role = role;
-    }
 }
@@ -0,0 +1,38 @@
+package com.employeems.dto;
+
+import org.springframework.http.CacheControl;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Validators for a conditional GET: a strong ETag and the Last-Modified time.
+ * Both are derived from version and updatedAt columns, so they can be checked
+ * against If-None-Match / If-Modified-Since before the resource is loaded.
+ */
+public class ResourceVersion {
+
+    // Clients may store the response but must revalidate before reusing it
+    public static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private final String eTag;
+
+    private final long lastModified;
+
+    public ResourceVersion(String tag, LocalDateTime... timestamps) {
+        this.eTag = "\"" + tag + "\"";
+        LocalDateTime latest = null;
+        for (LocalDateTime timestamp : timestamps) {
+            if (timestamp != null && (latest == null || timestamp.isAfter(latest))) {
+                latest = timestamp;
+            }
+        }
+        // Auditing stores local server time
+        this.lastModified = latest != null ? latest.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+
+    public String getETag() { return eTag; }
+
+    // Epoch millis, or -1 when no row has been modified yet
+    public long getLastModified() { return lastModified; }
+}
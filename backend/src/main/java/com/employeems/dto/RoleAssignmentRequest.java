@@ -0,0 +1,25 @@
+package com.employeems.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public class RoleAssignmentRequest {
+
+    @NotBlank(message = "Role code is required")
+    private String role;
+
+    // Constructors
+    public RoleAssignmentRequest() {}
+
+    public RoleAssignmentRequest(String role) {
+        this.role = role;
+    }
+
+    // Getters and Setters
+    public String getRole() {
+        return role;
+    }
+
+    public void setRole(String role) {
+        this.role = role;
+    }
+}
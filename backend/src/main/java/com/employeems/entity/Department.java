@@ -1,6 +1,9 @@
 package com.employeems.entity;
 
+import com.employeems.analytics.WorkforceSnapshotListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -10,10 +13,13 @@ import java.util.List;
 
 @Entity
 @Table(name = "departments")
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, WorkforceSnapshotListener.class})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "departments")
 public class Department {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "department_seq")
+    @SequenceGenerator(name = "department_seq", sequenceName = "department_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -33,6 +39,7 @@ public class Department {
     private Department parentDepartment;
 
     @OneToMany(mappedBy = "parentDepartment", cascade = CascadeType.ALL)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "departments.subDepartments")
     private List<Department> subDepartments;
 
     @OneToMany(mappedBy = "department", cascade = CascadeType.ALL)
@@ -52,6 +59,10 @@ public class Department {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
+    // Optimistic-lock version; also feeds the ETag of responses built from this row
+    @Version
+    private Long version;
+
     // Constructors
     public Department() {}
 
@@ -100,6 +111,9 @@ public class Department {
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
 
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
     public enum DepartmentStatus {
         ACTIVE, INACTIVE, RESTRUCTURING
     }
@@ -1,6 +1,8 @@
 package com.employeems.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -11,9 +13,12 @@ import java.util.List;
 @Entity
 @Table(name = "designations")
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "designations")
 public class Designation {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "designation_seq")
+    @SequenceGenerator(name = "designation_seq", sequenceName = "designation_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -43,6 +48,10 @@ public class Designation {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
+    // Optimistic-lock version; also feeds the ETag of responses built from this row
+    @Version
+    private Long version;
+
     // Constructors
     public Designation() {}
 
@@ -83,6 +92,9 @@ public class Designation {
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
 
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
     public enum DesignationStatus {
         ACTIVE, INACTIVE, DEPRECATED
     }
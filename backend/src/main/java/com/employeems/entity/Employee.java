@@ -1,5 +1,8 @@
 package com.employeems.entity;
 
+import com.employeems.analytics.WorkforceSnapshotListener;
+import com.employeems.facet.EmployeeFacetListener;
+import com.employeems.search.EmployeeSearchIndexListener;
 import jakarta.persistence.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -9,11 +12,25 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "employees")
-@EntityListeners(AuditingEntityListener.class)
+@Table(name = "employees", indexes = {
+    @Index(name = "idx_employees_reporting_path", columnList = "reporting_path"),
+    // Filter and sort indexes; id is the trailing column so that the list
+    // endpoints' ORDER BY ..., id is served by the index (see EmployeeSortField)
+    @Index(name = "idx_employees_department", columnList = "department_id, id"),
+    @Index(name = "idx_employees_designation", columnList = "designation_id, id"),
+    @Index(name = "idx_employees_manager", columnList = "manager_id, id"),
+    @Index(name = "idx_employees_status", columnList = "status, id"),
+    @Index(name = "idx_employees_first_name", columnList = "first_name, id"),
+    @Index(name = "idx_employees_last_name", columnList = "last_name, id"),
+    @Index(name = "idx_employees_email", columnList = "email, id"),
+    @Index(name = "idx_employees_employee_id", columnList = "employee_id, id")
+})
+@EntityListeners({AuditingEntityListener.class, EmployeeSearchIndexListener.class, EmployeeFacetListener.class,
+        WorkforceSnapshotListener.class})
 public class Employee {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_seq")
+    @SequenceGenerator(name = "employee_seq", sequenceName = "employee_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -47,6 +64,8 @@ public class Employee {
 
     private LocalDate dateOfBirth;
 
+    private LocalDate dateOfLeaving;
+
     private String address;
 
     @Enumerated(EnumType.STRING)
@@ -56,6 +75,11 @@ public class Employee {
     @JoinColumn(name = "manager_id")
     private Employee manager;
 
+    // Materialized reporting line: ids from the top of the hierarchy down to this
+    // employee, e.g. "/1/5/23/". Reports of X are the rows whose path starts with X's path.
+    @Column(name = "reporting_path", length = 1000)
+    private String reportingPath;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -63,6 +87,10 @@ public class Employee {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
+    // Optimistic-lock version; also feeds the ETag of responses built from this row
+    @Version
+    private Long version;
+
     // Constructors
     public Employee() {}
 
@@ -110,6 +138,9 @@ public class Employee {
     public LocalDate getDateOfBirth() { return dateOfBirth; }
     public void setDateOfBirth(LocalDate dateOfBirth) { this.dateOfBirth = dateOfBirth; }
 
+    public LocalDate getDateOfLeaving() { return dateOfLeaving; }
+    public void setDateOfLeaving(LocalDate dateOfLeaving) { this.dateOfLeaving = dateOfLeaving; }
+
     public String getAddress() { return address; }
     public void setAddress(String address) { this.address = address; }
 
@@ -119,12 +150,18 @@ public class Employee {
     public Employee getManager() { return manager; }
     public void setManager(Employee manager) { this.manager = manager; }
 
+    public String getReportingPath() { return reportingPath; }
+    public void setReportingPath(String reportingPath) { this.reportingPath = reportingPath; }
+
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
 
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
     public String getFullName() {
         return firstName + " " + lastName;
     }
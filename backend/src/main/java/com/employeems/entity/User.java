@@ -1,5 +1,6 @@
 package com.employeems.entity;
 
+import com.employeems.security.PrincipalCacheInvalidationListener;
 import jakarta.persistence.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -9,10 +10,11 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "users")
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, PrincipalCacheInvalidationListener.class})
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "user_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -45,6 +47,10 @@ public class User {
 
     private LocalDateTime lastLoginAt;
 
+    // Username as last read from or written to the database; lets listeners see renames
+    @Transient
+    private String persistedUsername;
+
     // Constructors
     public User() {}
 
@@ -62,6 +68,9 @@ public class User {
     public String getUsername() { return username; }
     public void setUsername(String username) { this.username = username; }
 
+    public String getPersistedUsername() { return persistedUsername; }
+    public void setPersistedUsername(String persistedUsername) { this.persistedUsername = persistedUsername; }
+
     public String getEmail() { return email; }
     public void setEmail(String email) { this.email = email; }
 
@@ -0,0 +1,19 @@
+package com.employeems.exception;
+
+/**
+ * Thrown when a bounded resource refuses more work. Mapped to
+ * 503 Service Unavailable with a Retry-After header.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,100 @@
+package com.employeems.facet;
+
+import com.employeems.dto.EmployeeFacets;
+import com.employeems.entity.Employee;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Facet counts over all employees, maintained incrementally from entity events.
+ * The last known key of each employee is kept so that an update can move its
+ * count from the old facet values to the new ones.
+ */
+@Component
+public class EmployeeFacetCounters {
+
+    private final Map<Long, EmployeeFacetKey> keysById = new HashMap<>();
+
+    private final Map<Employee.EmployeeStatus, Long> byStatus = new EnumMap<>(Employee.EmployeeStatus.class);
+
+    private final Map<Long, Long> byDepartment = new HashMap<>();
+
+    private final Map<Long, Long> byDesignation = new HashMap<>();
+
+    private final Map<Employee.EmploymentType, Long> byEmploymentType = new EnumMap<>(Employee.EmploymentType.class);
+
+    public synchronized void put(Long employeeId, EmployeeFacetKey key) {
+        EmployeeFacetKey previous = keysById.put(employeeId, key);
+        if (key.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            add(previous, -1);
+        }
+        add(key, 1);
+    }
+
+    public synchronized void remove(Long employeeId) {
+        EmployeeFacetKey previous = keysById.remove(employeeId);
+        if (previous != null) {
+            add(previous, -1);
+        }
+    }
+
+    public synchronized void clear() {
+        keysById.clear();
+        byStatus.clear();
+        byDepartment.clear();
+        byDesignation.clear();
+        byEmploymentType.clear();
+    }
+
+    public synchronized int size() {
+        return keysById.size();
+    }
+
+    public synchronized EmployeeFacets snapshot() {
+        return new EmployeeFacets(keysById.size(), new EnumMap<>(byStatus), new HashMap<>(byDepartment),
+                new HashMap<>(byDesignation), new EnumMap<>(byEmploymentType));
+    }
+
+    // Counts a subset, such as search hits, from the per-employee keys without querying the database
+    public synchronized EmployeeFacets count(Collection<Long> employeeIds, Predicate<EmployeeFacetKey> filter) {
+        long total = 0;
+        Map<Employee.EmployeeStatus, Long> status = new EnumMap<>(Employee.EmployeeStatus.class);
+        Map<Long, Long> department = new HashMap<>();
+        Map<Long, Long> designation = new HashMap<>();
+        Map<Employee.EmploymentType, Long> employmentType = new EnumMap<>(Employee.EmploymentType.class);
+        for (Long employeeId : employeeIds) {
+            EmployeeFacetKey key = keysById.get(employeeId);
+            if (key == null || !filter.test(key)) {
+                continue;
+            }
+            total++;
+            increment(status, key.status(), 1);
+            increment(department, key.departmentId(), 1);
+            increment(designation, key.designationId(), 1);
+            increment(employmentType, key.employmentType(), 1);
+        }
+        return new EmployeeFacets(total, status, department, designation, employmentType);
+    }
+
+    private void add(EmployeeFacetKey key, long delta) {
+        increment(byStatus, key.status(), delta);
+        increment(byDepartment, key.departmentId(), delta);
+        increment(byDesignation, key.designationId(), delta);
+        increment(byEmploymentType, key.employmentType(), delta);
+    }
+
+    // Drops entries that reach zero so the maps only hold values in use
+    private static <K> void increment(Map<K, Long> counts, K value, long delta) {
+        if (value != null) {
+            counts.merge(value, delta, (a, b) -> a + b == 0 ? null : a + b);
+        }
+    }
+}
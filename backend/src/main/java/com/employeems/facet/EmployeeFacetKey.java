@@ -0,0 +1,17 @@
+package com.employeems.facet;
+
+import com.employeems.entity.Employee;
+
+/**
+ * The faceted attributes of one employee. Any component may be null.
+ */
+public record EmployeeFacetKey(Employee.EmployeeStatus status, Long departmentId, Long designationId,
+                               Employee.EmploymentType employmentType) {
+
+    public static EmployeeFacetKey of(Employee employee) {
+        return new EmployeeFacetKey(employee.getStatus(),
+                employee.getDepartment() != null ? employee.getDepartment().getId() : null,
+                employee.getDesignation() != null ? employee.getDesignation().getId() : null,
+                employee.getEmploymentType());
+    }
+}
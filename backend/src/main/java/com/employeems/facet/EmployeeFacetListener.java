@@ -0,0 +1,34 @@
+package com.employeems.facet;
+
+import com.employeems.entity.Employee;
+import com.employeems.util.AfterCommit;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the facet counters in step with Employee writes, applying each change
+ * only once the surrounding transaction has committed.
+ */
+@Component
+public class EmployeeFacetListener {
+
+    @Autowired
+    private EmployeeFacetCounters facetCounters;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Employee employee) {
+        Long id = employee.getId();
+        EmployeeFacetKey key = EmployeeFacetKey.of(employee);
+        AfterCommit.run(() -> facetCounters.put(id, key));
+    }
+
+    @PostRemove
+    public void onRemove(Employee employee) {
+        Long id = employee.getId();
+        AfterCommit.run(() -> facetCounters.remove(id));
+    }
+}
@@ -0,0 +1,97 @@
+package com.employeems.metrics;
+
+import com.employeems.analytics.WorkforceSnapshot;
+import com.employeems.facet.EmployeeFacetCounters;
+import com.employeems.search.EmployeeSearchIndex;
+import com.employeems.security.BoundedPasswordEncoder;
+import com.employeems.security.InMemoryRevokedTokenStore;
+import com.employeems.security.PrincipalCache;
+import com.employeems.security.RevokedTokenStore;
+import com.employeems.service.LastLoginRecorder;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exposes the counters the in-process caches and queues already keep
+ * (principal cache, password hashing pool, revoked tokens, last-login
+ * write-behind, search index, facet counters, workforce snapshot) as meters.
+ */
+@Component
+public class ApplicationMetrics implements MeterBinder {
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private RevokedTokenStore revokedTokenStore;
+
+    @Autowired
+    private LastLoginRecorder lastLoginRecorder;
+
+    @Autowired
+    private EmployeeSearchIndex employeeSearchIndex;
+
+    @Autowired
+    private EmployeeFacetCounters employeeFacetCounters;
+
+    @Autowired
+    private WorkforceSnapshot workforceSnapshot;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("employeems.auth.principal-cache.requests", principalCache, PrincipalCache::getHitCount)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("employeems.auth.principal-cache.requests", principalCache, PrincipalCache::getMissCount)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("employeems.auth.principal-cache.evictions", principalCache, PrincipalCache::getEvictionCount)
+                .register(registry);
+        Gauge.builder("employeems.auth.principal-cache.size", principalCache, PrincipalCache::size)
+                .register(registry);
+
+        if (passwordEncoder instanceof BoundedPasswordEncoder boundedPasswordEncoder) {
+            Gauge.builder("employeems.auth.password-hashing.queued", boundedPasswordEncoder, BoundedPasswordEncoder::getQueueDepth)
+                    .description("Hashing tasks waiting for a worker")
+                    .register(registry);
+            Gauge.builder("employeems.auth.password-hashing.active", boundedPasswordEncoder, BoundedPasswordEncoder::getActiveCount)
+                    .description("Hashing tasks running")
+                    .register(registry);
+        }
+
+        if (revokedTokenStore instanceof InMemoryRevokedTokenStore inMemoryStore) {
+            Gauge.builder("employeems.auth.revoked-tokens", inMemoryStore, InMemoryRevokedTokenStore::size)
+                    .description("Revoked token ids retained until expiry")
+                    .register(registry);
+        }
+
+        Gauge.builder("employeems.auth.last-login.pending", lastLoginRecorder, LastLoginRecorder::getQueueDepth)
+                .description("Login timestamps waiting to be written")
+                .register(registry);
+        FunctionCounter.builder("employeems.auth.last-login.flushed", lastLoginRecorder, LastLoginRecorder::getFlushedRowCount)
+                .description("Login timestamps written")
+                .register(registry);
+        Gauge.builder("employeems.auth.last-login.flush.duration", lastLoginRecorder, r -> r.getLastFlushLatencyNanos() / 1e9)
+                .baseUnit("seconds")
+                .description("Duration of the most recent flush")
+                .register(registry);
+
+        Gauge.builder("employeems.search.index.size", employeeSearchIndex, EmployeeSearchIndex::size)
+                .description("Employees in the search index")
+                .register(registry);
+        Gauge.builder("employeems.facets.counters.size", employeeFacetCounters, EmployeeFacetCounters::size)
+                .description("Employees tracked by the facet counters")
+                .register(registry);
+        Gauge.builder("employeems.reports.snapshot.size", workforceSnapshot, WorkforceSnapshot::size)
+                .description("Employees in the workforce analytics snapshot")
+                .register(registry);
+    }
+}
@@ -0,0 +1,115 @@
+package com.employeems.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Publishes Hibernate's session-factory statistics as meters. The counters are
+ * read from Statistics at scrape time, so nothing is added to the query path
+ * beyond Hibernate's own bookkeeping (hibernate.generate_statistics=true).
+ */
+@Component
+public class HibernateStatisticsMetrics implements MeterBinder {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        counter(registry, statistics, "employeems.hibernate.statements", "prepared", Statistics::getPrepareStatementCount,
+                "JDBC statements prepared");
+        counter(registry, statistics, "employeems.hibernate.queries", "executed", Statistics::getQueryExecutionCount,
+                "HQL/JPQL and native queries executed");
+        Gauge.builder("employeems.hibernate.queries.max.time", statistics, s -> s.getQueryExecutionMaxTime())
+                .baseUnit("milliseconds")
+                .description("Slowest query execution time")
+                .register(registry);
+
+        counter(registry, statistics, "employeems.hibernate.entities", "load", Statistics::getEntityLoadCount,
+                "Entities loaded from the database");
+        counter(registry, statistics, "employeems.hibernate.entities", "fetch", Statistics::getEntityFetchCount,
+                "Entities fetched lazily or by secondary select");
+        counter(registry, statistics, "employeems.hibernate.entities", "insert", Statistics::getEntityInsertCount,
+                "Entities inserted");
+        counter(registry, statistics, "employeems.hibernate.entities", "update", Statistics::getEntityUpdateCount,
+                "Entities updated");
+        counter(registry, statistics, "employeems.hibernate.entities", "delete", Statistics::getEntityDeleteCount,
+                "Entities deleted");
+
+        counter(registry, statistics, "employeems.hibernate.collections", "load", Statistics::getCollectionLoadCount,
+                "Collections loaded");
+        counter(registry, statistics, "employeems.hibernate.collections", "fetch", Statistics::getCollectionFetchCount,
+                "Collections fetched lazily or by secondary select");
+
+        counter(registry, statistics, "employeems.hibernate.cache.second-level", "hit", Statistics::getSecondLevelCacheHitCount,
+                "Second-level cache hits");
+        counter(registry, statistics, "employeems.hibernate.cache.second-level", "miss", Statistics::getSecondLevelCacheMissCount,
+                "Second-level cache misses");
+        counter(registry, statistics, "employeems.hibernate.cache.second-level", "put", Statistics::getSecondLevelCachePutCount,
+                "Second-level cache puts");
+        counter(registry, statistics, "employeems.hibernate.cache.query", "hit", Statistics::getQueryCacheHitCount,
+                "Query cache hits");
+        counter(registry, statistics, "employeems.hibernate.cache.query", "miss", Statistics::getQueryCacheMissCount,
+                "Query cache misses");
+        counter(registry, statistics, "employeems.hibernate.cache.query", "put", Statistics::getQueryCachePutCount,
+                "Query cache puts");
+
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            bindCacheRegion(registry, statistics, region);
+        }
+
+        counter(registry, statistics, "employeems.hibernate.sessions", "opened", Statistics::getSessionOpenCount,
+                "Sessions opened");
+        counter(registry, statistics, "employeems.hibernate.flushes", "total", Statistics::getFlushCount,
+                "Session flushes");
+        counter(registry, statistics, "employeems.hibernate.transactions", "completed", Statistics::getTransactionCount,
+                "Transactions completed");
+    }
+
+    // Per-region counters and hit ratio for the regions declared in ehcache.xml
+    private static void bindCacheRegion(MeterRegistry registry, Statistics statistics, String region) {
+        CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+        if (regionStatistics == null) {
+            return;
+        }
+        FunctionCounter.builder("employeems.hibernate.cache.region.requests", regionStatistics, CacheRegionStatistics::getHitCount)
+                .tags("region", region, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("employeems.hibernate.cache.region.requests", regionStatistics, CacheRegionStatistics::getMissCount)
+                .tags("region", region, "result", "miss")
+                .register(registry);
+        FunctionCounter.builder("employeems.hibernate.cache.region.puts", regionStatistics, CacheRegionStatistics::getPutCount)
+                .tag("region", region)
+                .register(registry);
+        Gauge.builder("employeems.hibernate.cache.region.hit.ratio", regionStatistics, HibernateStatisticsMetrics::hitRatio)
+                .tag("region", region)
+                .description("Hits over lookups since startup (NaN before the first lookup)")
+                .register(registry);
+    }
+
+    private static double hitRatio(CacheRegionStatistics regionStatistics) {
+        long hits = regionStatistics.getHitCount();
+        long lookups = hits + regionStatistics.getMissCount();
+        return lookups == 0 ? Double.NaN : (double) hits / lookups;
+    }
+
+    private static void counter(MeterRegistry registry, Statistics statistics, String name, String operation,
+                                ToLongFunction<Statistics> value, String description) {
+        FunctionCounter.builder(name, statistics, s -> value.applyAsLong(s))
+                .tag("operation", operation)
+                .description(description)
+                .register(registry);
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,15 +21,34 @@ public interface DepartmentRepository extends JpaRepository<Department, Long> {
     
     List<Department> findByParentDepartmentIsNull(); // Root departments
     
-    @Query("SELECT d FROM Department d WHERE " +
+    @Query("SELECT d FROM Department d LEFT JOIN FETCH d.manager LEFT JOIN FETCH d.parentDepartment WHERE " +
            "LOWER(d.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
            "LOWER(d.code) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
     List<Department> searchDepartments(@Param("searchTerm") String searchTerm);
     
+    // Id and parent id of every department, to load the hierarchy without hydrating entities
+    @Query("SELECT d.id, d.parentDepartment.id FROM Department d")
+    List<Object[]> findHierarchyRows();
+    
+    // Every department with its manager in one statement, for in-memory tree assembly
+    @Query("SELECT d FROM Department d LEFT JOIN FETCH d.manager")
+    List<Department> findAllWithManager();
+    
+    // Selected departments and the next level below them, with what their DTOs read, one statement each
+    @Query("SELECT d FROM Department d LEFT JOIN FETCH d.manager LEFT JOIN FETCH d.parentDepartment WHERE d.id IN :ids")
+    List<Department> findAllWithManagerByIdIn(@Param("ids") Collection<Long> ids);
+    
+    @Query("SELECT d FROM Department d LEFT JOIN FETCH d.manager LEFT JOIN FETCH d.parentDepartment " +
+           "WHERE d.parentDepartment.id IN :parentIds")
+    List<Department> findAllWithManagerByParentIdIn(@Param("parentIds") Collection<Long> parentIds);
+    
     boolean existsByName(String name);
     
     boolean existsByCode(String code);
     
     @Query("SELECT COUNT(d) FROM Department d WHERE d.parentDepartment.id = :parentId")
     Long countSubDepartments(@Param("parentId") Long parentId);
+    
+    @Query("SELECT COUNT(d) AS rowCount, SUM(d.version) AS versionSum, MAX(d.updatedAt) AS lastModified FROM Department d")
+    TableFingerprint findTableFingerprint();
 }
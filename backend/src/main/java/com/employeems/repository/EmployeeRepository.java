@@ -1,18 +1,30 @@
 package com.employeems.repository;
 
+import com.employeems.dto.EmployeeSummary;
 import com.employeems.entity.Employee;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee> {
     
     Optional<Employee> findByEmployeeId(String employeeId);
     
@@ -24,21 +36,95 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     
     List<Employee> findByManagerId(Long managerId);
     
-    @Query("SELECT e FROM Employee e WHERE " +
-           "LOWER(e.firstName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(e.lastName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(e.email) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
-           "LOWER(e.employeeId) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
-    Page<Employee> searchEmployees(@Param("searchTerm") String searchTerm, Pageable pageable);
+    // List views read EmployeeSummary rows straight from the columns they show:
+    // no entity is hydrated or snapshotted, and the joins replace three proxies.
+    // The count queries are declared separately because they must not join.
+    String SUMMARY_SELECT = "SELECT new com.employeems.dto.EmployeeSummary(" +
+            "e.id, e.employeeId, e.firstName, e.lastName, e.email, e.phoneNumber, " +
+            "d.id, d.name, g.id, g.title, m.id, CONCAT(m.firstName, ' ', m.lastName), " +
+            "e.employmentType, e.status, e.dateOfJoining) " +
+            "FROM Employee e LEFT JOIN e.department d LEFT JOIN e.designation g LEFT JOIN e.manager m";
+    
+    @Query(value = SUMMARY_SELECT,
+           countQuery = "SELECT COUNT(e) FROM Employee e")
+    Page<EmployeeSummary> findAllSummaries(Pageable pageable);
+    
+    @Query(value = SUMMARY_SELECT + " WHERE d.id = :departmentId",
+           countQuery = "SELECT COUNT(e) FROM Employee e WHERE e.department.id = :departmentId")
+    Page<EmployeeSummary> findSummariesByDepartmentId(@Param("departmentId") Long departmentId, Pageable pageable);
+    
+    @Query(value = SUMMARY_SELECT + " WHERE g.id = :designationId",
+           countQuery = "SELECT COUNT(e) FROM Employee e WHERE e.designation.id = :designationId")
+    Page<EmployeeSummary> findSummariesByDesignationId(@Param("designationId") Long designationId, Pageable pageable);
+    
+    @Query(value = SUMMARY_SELECT + " WHERE e.status = :status",
+           countQuery = "SELECT COUNT(e) FROM Employee e WHERE e.status = :status")
+    Page<EmployeeSummary> findSummariesByStatus(@Param("status") Employee.EmployeeStatus status, Pageable pageable);
+    
+    @Query(SUMMARY_SELECT + " WHERE e.id IN :ids")
+    List<EmployeeSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    @EntityGraph(attributePaths = {"department", "designation", "manager"})
+    @Query("SELECT e FROM Employee e WHERE e.id IN :ids")
+    List<Employee> findAllWithAssociationsByIdIn(@Param("ids") Collection<Long> ids);
+    
+    @EntityGraph(attributePaths = {"department", "designation", "manager"})
+    @Query("SELECT e FROM Employee e WHERE e.employeeId IN :employeeIds")
+    List<Employee> findAllWithAssociationsByEmployeeIdIn(@Param("employeeIds") Collection<String> employeeIds);
+    
+    // Only the columns the search index needs, to rebuild it without hydrating entities
+    @Query("SELECT e.id, e.firstName, e.lastName, e.email, e.employeeId FROM Employee e")
+    List<Object[]> findSearchIndexRows();
+    
+    // Cursor-backed stream for exports; must be consumed inside a transaction and closed
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM Employee e " +
+           "LEFT JOIN FETCH e.department LEFT JOIN FETCH e.designation LEFT JOIN FETCH e.manager " +
+           "ORDER BY e.id")
+    Stream<Employee> streamAllForExport();
+    
+    @Query("SELECT e.employeeId FROM Employee e WHERE e.employeeId IN :employeeIds")
+    List<String> findExistingEmployeeIds(@Param("employeeIds") Collection<String> employeeIds);
     
-    @Query("SELECT e FROM Employee e WHERE e.department.id = :departmentId")
-    Page<Employee> findByDepartmentId(@Param("departmentId") Long departmentId, Pageable pageable);
+    @Query("SELECT e.email FROM Employee e WHERE e.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
     
-    @Query("SELECT e FROM Employee e WHERE e.designation.id = :designationId")
-    Page<Employee> findByDesignationId(@Param("designationId") Long designationId, Pageable pageable);
+    // Reporting-line queries over the materialized path. Callers bind the whole prefix pattern
+    // (path + "%"); a LIKE built with CONCAT in SQL is not planned as an index range scan.
+    @EntityGraph(attributePaths = {"department", "designation", "manager"})
+    @Query(value = "SELECT e FROM Employee e WHERE e.reportingPath LIKE :pathPattern AND e.id <> :employeeId",
+           countQuery = "SELECT COUNT(e) FROM Employee e WHERE e.reportingPath LIKE :pathPattern AND e.id <> :employeeId")
+    Page<Employee> findTransitiveReports(@Param("pathPattern") String pathPattern, @Param("employeeId") Long employeeId,
+                                         Pageable pageable);
     
-    @Query("SELECT e FROM Employee e WHERE e.status = :status")
-    Page<Employee> findByStatus(@Param("status") Employee.EmployeeStatus status, Pageable pageable);
+    @Query("SELECT COUNT(e) FROM Employee e WHERE e.reportingPath LIKE :pathPattern AND e.id <> :employeeId")
+    long countTransitiveReports(@Param("pathPattern") String pathPattern, @Param("employeeId") Long employeeId);
+    
+    // Moves a subtree: rewrites the path prefix of every row matching the pattern. A bulk update skips
+    // @Version and the persistence context, so it bumps version and updatedAt itself (ETags change) and
+    // pending changes are flushed before it and managed instances cleared after it. Entity listeners do
+    // not see these rows; none of them index the reporting path.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Employee e SET e.reportingPath = CONCAT(:newPrefix, SUBSTRING(e.reportingPath, :oldPrefixLength + 1)), " +
+           "e.version = COALESCE(e.version, 0) + 1, e.updatedAt = :updatedAt " +
+           "WHERE e.reportingPath LIKE :oldPrefixPattern")
+    int rebaseReportingPaths(@Param("oldPrefixPattern") String oldPrefixPattern, @Param("newPrefix") String newPrefix,
+                             @Param("oldPrefixLength") int oldPrefixLength, @Param("updatedAt") LocalDateTime updatedAt);
+    
+    @Modifying
+    @Query("UPDATE Employee e SET e.reportingPath = CONCAT('/', CAST(e.id AS String), '/') " +
+           "WHERE e.reportingPath IS NULL AND e.manager IS NULL")
+    int backfillRootReportingPaths();
+    
+    @Modifying
+    @Query("UPDATE Employee e SET e.reportingPath = CONCAT(" +
+           "(SELECT m.reportingPath FROM Employee m WHERE m.id = e.manager.id), CAST(e.id AS String), '/') " +
+           "WHERE e.reportingPath IS NULL AND EXISTS " +
+           "(SELECT m FROM Employee m WHERE m.id = e.manager.id AND m.reportingPath IS NOT NULL)")
+    int backfillNextReportingLevel();
     
     boolean existsByEmployeeId(String employeeId);
     
@@ -46,4 +132,48 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     
     @Query("SELECT COUNT(e) FROM Employee e WHERE e.department.id = :departmentId")
     Long countByDepartmentId(@Param("departmentId") Long departmentId);
+    
+    // Reporting attributes per employee, to load the workforce analytics snapshot
+    @Query("SELECT e.id, e.department.id, e.designation.id, e.status, e.employmentType, " +
+           "e.dateOfJoining, e.dateOfBirth, e.dateOfLeaving FROM Employee e")
+    List<Object[]> findWorkforceRows();
+    
+    // Facet attributes per employee, to seed the incrementally maintained facet counters
+    @Query("SELECT e.id, e.status, e.department.id, e.designation.id, e.employmentType FROM Employee e")
+    List<Object[]> findFacetKeyRows();
+    
+    // All facet counts in one pass: rows per value combination, summed per facet by the caller.
+    // Null parameters disable their filter; search terms are resolved through EmployeeSearchIndex instead.
+    @Query("SELECT e.status AS status, e.department.id AS departmentId, e.designation.id AS designationId, " +
+           "e.employmentType AS employmentType, COUNT(e) AS headcount FROM Employee e " +
+           "WHERE (:departmentId IS NULL OR e.department.id = :departmentId) " +
+           "AND (:designationId IS NULL OR e.designation.id = :designationId) " +
+           "AND (:status IS NULL OR e.status = :status) " +
+           "AND (:employmentType IS NULL OR e.employmentType = :employmentType) " +
+           "GROUP BY e.status, e.department.id, e.designation.id, e.employmentType")
+    List<FacetCountRow> countFacetCombinations(@Param("departmentId") Long departmentId,
+                                               @Param("designationId") Long designationId,
+                                               @Param("status") Employee.EmployeeStatus status,
+                                               @Param("employmentType") Employee.EmploymentType employmentType);
+    
+    // Grouped headcounts; departments or designations without employees have no row
+    @Query("SELECT e.department.id AS groupId, COUNT(e) AS headcount FROM Employee e " +
+           "WHERE e.department IS NOT NULL GROUP BY e.department.id")
+    List<HeadcountRow> countGroupedByDepartment();
+    
+    @Query("SELECT e.department.id AS groupId, COUNT(e) AS headcount FROM Employee e " +
+           "WHERE e.department.id IN :departmentIds GROUP BY e.department.id")
+    List<HeadcountRow> countGroupedByDepartment(@Param("departmentIds") Collection<Long> departmentIds);
+    
+    // Conditional GET: versions of the employee and of the rows its DTO reads names from
+    @Query("SELECT e.version AS employeeVersion, e.updatedAt AS employeeUpdatedAt, " +
+           "d.version AS departmentVersion, d.updatedAt AS departmentUpdatedAt, " +
+           "g.version AS designationVersion, g.updatedAt AS designationUpdatedAt, " +
+           "m.version AS managerVersion, m.updatedAt AS managerUpdatedAt " +
+           "FROM Employee e LEFT JOIN e.department d LEFT JOIN e.designation g LEFT JOIN e.manager m " +
+           "WHERE e.id = :id")
+    Optional<EmployeeVersionRow> findVersionById(@Param("id") Long id);
+    
+    @Query("SELECT COUNT(e) AS rowCount, SUM(e.version) AS versionSum, MAX(e.updatedAt) AS lastModified FROM Employee e")
+    TableFingerprint findTableFingerprint();
 }
@@ -0,0 +1,55 @@
+package com.employeems.repository;
+
+import com.employeems.dto.EmployeeSummary;
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Sort keys accepted by the employee list endpoints. ID is the primary key and
+ * every other key has a (key, id) index on the employees table, so an unfiltered
+ * ORDER BY key, id is read in index order instead of being sorted, and id breaks
+ * ties deterministically. All keys are non-null columns, which keeps cursor seek
+ * predicates simple. The department, designation and status filters are fixed
+ * query shapes rather than sort keys; EmployeeQueryPlanTest checks their indexes.
+ */
+public enum EmployeeSortField {
+    ID("id", EmployeeSummary::getId),                        // primary key
+    FIRST_NAME("firstName", EmployeeSummary::getFirstName),  // idx_employees_first_name
+    LAST_NAME("lastName", EmployeeSummary::getLastName),     // idx_employees_last_name
+    EMAIL("email", EmployeeSummary::getEmail),               // idx_employees_email
+    EMPLOYEE_ID("employeeId", EmployeeSummary::getEmployeeId); // idx_employees_employee_id
+
+    private final String property;
+    private final Function<EmployeeSummary, Object> extractor;
+
+    EmployeeSortField(String property, Function<EmployeeSummary, Object> extractor) {
+        this.property = property;
+        this.extractor = extractor;
+    }
+
+    public static EmployeeSortField fromProperty(String property) {
+        for (EmployeeSortField field : values()) {
+            if (field.property.equals(property)) {
+                return field;
+            }
+        }
+        throw new RuntimeException("Unsupported sort field: " + property + " (supported: "
+                + Arrays.stream(values()).map(EmployeeSortField::getProperty).collect(Collectors.joining(", ")) + ")");
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public Object valueOf(EmployeeSummary employee) {
+        return extractor.apply(employee);
+    }
+
+    public Sort toSort(Sort.Direction direction) {
+        Sort sort = Sort.by(direction, property);
+        return this == ID ? sort : sort.and(Sort.by(direction, ID.property));
+    }
+}
@@ -0,0 +1,25 @@
+package com.employeems.repository;
+
+import com.employeems.entity.Employee;
+import org.springframework.data.jpa.domain.Specification;
+
+public final class EmployeeSpecifications {
+
+    private EmployeeSpecifications() {}
+
+    public static Specification<Employee> all() {
+        return (root, query, cb) -> cb.conjunction();
+    }
+
+    public static Specification<Employee> inDepartment(Long departmentId) {
+        return (root, query, cb) -> cb.equal(root.get("department").get("id"), departmentId);
+    }
+
+    public static Specification<Employee> hasDesignation(Long designationId) {
+        return (root, query, cb) -> cb.equal(root.get("designation").get("id"), designationId);
+    }
+
+    public static Specification<Employee> hasStatus(Employee.EmployeeStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+}
@@ -0,0 +1,27 @@
+package com.employeems.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection for the versions of an employee and of the rows its DTO copies
+ * names from (department, designation, manager). Joined values are null when
+ * the association is unset.
+ */
+public interface EmployeeVersionRow {
+
+    Long getEmployeeVersion();
+
+    LocalDateTime getEmployeeUpdatedAt();
+
+    Long getDepartmentVersion();
+
+    LocalDateTime getDepartmentUpdatedAt();
+
+    Long getDesignationVersion();
+
+    LocalDateTime getDesignationUpdatedAt();
+
+    Long getManagerVersion();
+
+    LocalDateTime getManagerUpdatedAt();
+}
@@ -0,0 +1,20 @@
+package com.employeems.repository;
+
+import com.employeems.entity.Employee;
+
+/**
+ * Projection for grouped facet counts: one row per distinct combination of
+ * status, department, designation and employment type. Unset values are null.
+ */
+public interface FacetCountRow {
+
+    Employee.EmployeeStatus getStatus();
+
+    Long getDepartmentId();
+
+    Long getDesignationId();
+
+    Employee.EmploymentType getEmploymentType();
+
+    Long getHeadcount();
+}
@@ -0,0 +1,11 @@
+package com.employeems.repository;
+
+/**
+ * Projection for grouped employee counts: one row per department or designation id.
+ */
+public interface HeadcountRow {
+
+    Long getGroupId();
+
+    Long getHeadcount();
+}
@@ -1,7 +1,10 @@
 package com.employeems.repository;
 
 import com.employeems.entity.Permission;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,6 +12,11 @@ import java.util.Optional;
 
 @Repository
 public interface PermissionRepository extends JpaRepository<Permission, Long> {
+    // Looked up by code while seeding roles; served from the query cache
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-queries")
+    })
     Optional<Permission> findByCode(String code);
     Optional<Permission> findByName(String name);
     List<Permission> findByCategory(Permission.PermissionCategory category);
@@ -1,13 +1,21 @@
 package com.employeems.repository;
 
 import com.employeems.entity.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
 public interface RoleRepository extends JpaRepository<Role, Long> {
+    // Looked up by code when a role's permission mask is first compiled; served from the query cache
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "reference-queries")
+    })
     Optional<Role> findByCode(String code);
     Optional<Role> findByName(String name);
     boolean existsByCode(String code);
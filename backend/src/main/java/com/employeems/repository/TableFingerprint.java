@@ -0,0 +1,26 @@
+package com.employeems.repository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Projection for a cheap whole-table change fingerprint: any insert, update or
+ * delete changes at least one of these values.
+ */
+public interface TableFingerprint {
+
+    Long getRowCount();
+
+    Long getVersionSum();
+
+    LocalDateTime getLastModified();
+
+    // Compact form for embedding in an ETag: count.versionSum.seconds.nanos
+    default String toTag() {
+        LocalDateTime lastModified = getLastModified();
+        String modified = lastModified != null
+                ? lastModified.toEpochSecond(ZoneOffset.UTC) + "." + lastModified.getNano()
+                : "0.0";
+        return getRowCount() + "." + (getVersionSum() != null ? getVersionSum() : 0) + "." + modified;
+    }
+}
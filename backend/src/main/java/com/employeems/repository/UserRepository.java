@@ -20,6 +20,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u WHERE u.username = :identifier OR u.email = :identifier OR u.employeeId = :identifier")
     Optional<User> findByUsernameOrEmailOrEmployeeId(@Param("identifier") String identifier);
     
+    // Login lookup: only the user row is queried; the eager role and its permissions
+    // resolve from the second-level cache (a fetch join would bypass it)
+    @Query("SELECT u FROM User u " +
+           "WHERE u.username = :identifier OR u.email = :identifier OR u.employeeId = :identifier")
+    Optional<User> findForAuthentication(@Param("identifier") String identifier);
+    
     @Query("SELECT u FROM User u WHERE u.username = :username OR u.email = :email")
     Optional<User> findByUsernameOrEmail(@Param("username") String username, @Param("email") String email);
     
@@ -0,0 +1,29 @@
+package com.employeems.search;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-process full-text index over the searchable employee columns.
+ * Implementations must be safe for concurrent reads and writes.
+ */
+public interface EmployeeSearchIndex {
+
+    /** Adds or replaces the indexed text for an employee. */
+    void put(Long employeeId, String... fields);
+
+    /** Replaces the whole index with the given documents, building it in one pass. */
+    void rebuild(Map<Long, String[]> documents);
+
+    void remove(Long employeeId);
+
+    void clear();
+
+    /**
+     * Returns the ids of employees with a field containing the term (case-insensitive), in ascending order.
+     * Terms too short to use the index are matched by scanning every indexed document.
+     */
+    List<Long> search(String term);
+
+    int size();
+}
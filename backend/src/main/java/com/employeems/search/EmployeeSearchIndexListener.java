@@ -0,0 +1,41 @@
+package com.employeems.search;
+
+import com.employeems.entity.Employee;
+import com.employeems.util.AfterCommit;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the search index in step with Employee writes. Changes are applied
+ * after the surrounding transaction commits so rolled-back writes never
+ * become searchable.
+ */
+@Component
+public class EmployeeSearchIndexListener {
+
+    @Autowired
+    private EmployeeSearchIndex searchIndex;
+
+    public static String[] indexedFields(Employee employee) {
+        return new String[] {
+            employee.getFirstName(), employee.getLastName(), employee.getEmail(), employee.getEmployeeId()
+        };
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Employee employee) {
+        Long id = employee.getId();
+        String[] fields = indexedFields(employee);
+        AfterCommit.run(() -> searchIndex.put(id, fields));
+    }
+
+    @PostRemove
+    public void onRemove(Employee employee) {
+        Long id = employee.getId();
+        AfterCommit.run(() -> searchIndex.remove(id));
+    }
+}
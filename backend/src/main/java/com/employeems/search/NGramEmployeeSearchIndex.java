@@ -0,0 +1,276 @@
+package com.employeems.search;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted n-gram index. Every field is lower-cased and split into overlapping
+ * n-grams; each gram maps to a sorted array of employee ids. A substring query
+ * intersects the posting lists of its grams, then verifies the surviving
+ * candidates against the stored field text to drop false positives. Terms
+ * shorter than one gram cannot use the postings and are answered by scanning
+ * every stored document (in memory, never the database).
+ *
+ * <p>Single updates copy the posting arrays they touch, which keeps reads
+ * simple; loading the whole table goes through {@link #rebuild(Map)} instead,
+ * which collects each gram's ids and sorts every list once.
+ */
+@Component
+public class NGramEmployeeSearchIndex implements EmployeeSearchIndex {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final int gramSize;
+
+    // Replaced wholesale by rebuild; only accessed under the lock
+    private Map<String, long[]> postings = new HashMap<>();
+
+    private Map<Long, String[]> documents = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public NGramEmployeeSearchIndex(@Value("${app.search.ngram-size:3}") int gramSize) {
+        if (gramSize < 1) {
+            throw new IllegalArgumentException("N-gram size must be positive");
+        }
+        this.gramSize = gramSize;
+    }
+
+    @Override
+    public void put(Long employeeId, String... fields) {
+        String[] normalized = normalize(fields);
+
+        lock.writeLock().lock();
+        try {
+            String[] previous = documents.put(employeeId, normalized);
+            if (previous != null) {
+                for (String gram : grams(previous)) {
+                    removePosting(gram, employeeId);
+                }
+            }
+            for (String gram : grams(normalized)) {
+                addPosting(gram, employeeId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void rebuild(Map<Long, String[]> source) {
+        Map<Long, String[]> rebuiltDocuments = new HashMap<>(source.size() * 2);
+        Map<String, PostingBuilder> builders = new HashMap<>();
+        for (Map.Entry<Long, String[]> entry : source.entrySet()) {
+            String[] normalized = normalize(entry.getValue());
+            rebuiltDocuments.put(entry.getKey(), normalized);
+            for (String gram : grams(normalized)) {
+                builders.computeIfAbsent(gram, g -> new PostingBuilder()).add(entry.getKey());
+            }
+        }
+        Map<String, long[]> rebuiltPostings = new HashMap<>(builders.size() * 2);
+        for (Map.Entry<String, PostingBuilder> entry : builders.entrySet()) {
+            rebuiltPostings.put(entry.getKey(), entry.getValue().toSortedArray());
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings = rebuiltPostings;
+            documents = rebuiltDocuments;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long employeeId) {
+        lock.writeLock().lock();
+        try {
+            String[] previous = documents.remove(employeeId);
+            if (previous != null) {
+                for (String gram : grams(previous)) {
+                    removePosting(gram, employeeId);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Long> search(String term) {
+        String query = term == null ? "" : term.trim().toLowerCase(Locale.ROOT);
+
+        lock.readLock().lock();
+        try {
+            if (query.length() < gramSize) {
+                // Too short to form a gram: scan the stored text instead of the database
+                List<Long> matches = new ArrayList<>();
+                for (Map.Entry<Long, String[]> entry : documents.entrySet()) {
+                    if (matches(entry.getValue(), query)) {
+                        matches.add(entry.getKey());
+                    }
+                }
+                matches.sort(null);
+                return matches;
+            }
+
+            List<long[]> lists = new ArrayList<>();
+            for (String gram : grams(query)) {
+                long[] posting = postings.get(gram);
+                if (posting == null) {
+                    return List.of();
+                }
+                lists.add(posting);
+            }
+            lists.sort((a, b) -> Integer.compare(a.length, b.length));
+
+            long[] candidates = lists.get(0);
+            for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+                candidates = intersect(candidates, lists.get(i));
+            }
+
+            List<Long> matches = new ArrayList<>(candidates.length);
+            for (long id : candidates) {
+                if (matches(documents.get(id), query)) {
+                    matches.add(id);
+                }
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static String[] normalize(String[] fields) {
+        String[] normalized = new String[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            normalized[i] = fields[i] != null ? fields[i].toLowerCase(Locale.ROOT) : "";
+        }
+        return normalized;
+    }
+
+    private Set<String> grams(String... fields) {
+        Set<String> grams = new HashSet<>();
+        for (String field : fields) {
+            for (int i = 0; i + gramSize <= field.length(); i++) {
+                grams.add(field.substring(i, i + gramSize));
+            }
+        }
+        return grams;
+    }
+
+    private static boolean matches(String[] fields, String query) {
+        if (fields == null) {
+            return false;
+        }
+        for (String field : fields) {
+            if (field.contains(query)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void addPosting(String gram, long id) {
+        long[] posting = postings.getOrDefault(gram, EMPTY);
+        int index = Arrays.binarySearch(posting, id);
+        if (index >= 0) {
+            return;
+        }
+        int insertAt = -index - 1;
+        long[] updated = new long[posting.length + 1];
+        System.arraycopy(posting, 0, updated, 0, insertAt);
+        updated[insertAt] = id;
+        System.arraycopy(posting, insertAt, updated, insertAt + 1, posting.length - insertAt);
+        postings.put(gram, updated);
+    }
+
+    private void removePosting(String gram, long id) {
+        long[] posting = postings.get(gram);
+        if (posting == null) {
+            return;
+        }
+        int index = Arrays.binarySearch(posting, id);
+        if (index < 0) {
+            return;
+        }
+        if (posting.length == 1) {
+            postings.remove(gram);
+            return;
+        }
+        long[] updated = new long[posting.length - 1];
+        System.arraycopy(posting, 0, updated, 0, index);
+        System.arraycopy(posting, index + 1, updated, index, posting.length - index - 1);
+        postings.put(gram, updated);
+    }
+
+    private static long[] intersect(long[] a, long[] b) {
+        long[] result = new long[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    // Growable id list for bulk builds; each document adds itself to a gram at most once
+    private static final class PostingBuilder {
+
+        private long[] ids = new long[4];
+
+        private int size;
+
+        void add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        long[] toSortedArray() {
+            long[] sorted = Arrays.copyOf(ids, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
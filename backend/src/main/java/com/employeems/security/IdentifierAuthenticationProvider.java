@@ -0,0 +1,75 @@
+package com.employeems.security;
+
+import com.employeems.entity.User;
+import com.employeems.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.LockedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Authenticates a username, email or employee ID with one query that fetches
+ * the user together with its role, verifies the password and then checks the
+ * account status. The resulting principal is a UserPrincipal holding that User.
+ */
+public class IdentifierAuthenticationProvider implements AuthenticationProvider {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final PasswordEncoder passwordEncoder;
+
+    // Hash checked against when the user does not exist, so lookups for unknown
+    // identifiers take as long as a wrong password
+    private final String unknownUserPasswordHash;
+
+    public IdentifierAuthenticationProvider(PasswordEncoder passwordEncoder) {
+        this.passwordEncoder = passwordEncoder;
+        this.unknownUserPasswordHash = passwordEncoder.encode("unknown-user-password");
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        String identifier = authentication.getName();
+        String password = authentication.getCredentials() != null ? authentication.getCredentials().toString() : "";
+
+        User user = userRepository.findForAuthentication(identifier).orElse(null);
+        if (user == null) {
+            passwordEncoder.matches(password, unknownUserPasswordHash);
+            throw new BadCredentialsException("Invalid credentials");
+        }
+
+        // Password first, so disabled and locked accounts cost the same hash as any other
+        if (!passwordEncoder.matches(password, user.getHashedPassword())) {
+            throw new BadCredentialsException("Invalid credentials");
+        }
+        UserPrincipal principal = new UserPrincipal(user);
+        if (!principal.isEnabled()) {
+            throw new DisabledException("User account is disabled");
+        }
+        if (!principal.isAccountNonLocked()) {
+            throw new LockedException("User account is locked");
+        }
+
+        // Transparently re-hash when the configured work factor has changed
+        if (passwordEncoder.upgradeEncoding(user.getHashedPassword())) {
+            user.setHashedPassword(passwordEncoder.encode(password));
+            userRepository.save(user);
+        }
+
+        UsernamePasswordAuthenticationToken result =
+            new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        result.setDetails(authentication.getDetails());
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
+    }
+}
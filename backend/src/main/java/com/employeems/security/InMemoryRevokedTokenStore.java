@@ -0,0 +1,90 @@
+package com.employeems.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-JVM revocation list. A Bloom filter answers "definitely not revoked" for
+ * the common case without touching the map. Entries expire with their tokens
+ * and are purged on a schedule. After each purge the filter is rebuilt from
+ * the remaining ids, so false positives do not accumulate.
+ */
+@Component
+public class InMemoryRevokedTokenStore implements RevokedTokenStore {
+
+    private final int expectedTokens;
+
+    private final double falsePositiveRate;
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    // Guarded by "this"; ordered by expiry so purges only visit expired entries
+    private final PriorityQueue<Entry> expiryQueue = new PriorityQueue<>();
+
+    private volatile BloomFilter filter;
+
+    public InMemoryRevokedTokenStore(@Value("${app.security.revocation.expected-tokens:100000}") int expectedTokens,
+                                     @Value("${app.security.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.expectedTokens = expectedTokens;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedTokens, falsePositiveRate);
+    }
+
+    @Override
+    public synchronized boolean revoke(String tokenId, Instant expiresAt) {
+        long expiry = expiresAt.toEpochMilli();
+        if (revoked.putIfAbsent(tokenId, expiry) != null) {
+            return false;
+        }
+        expiryQueue.add(new Entry(tokenId, expiry));
+        filter.put(tokenId);
+        return true;
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        if (!filter.mightContain(tokenId)) {
+            return false;
+        }
+        return revoked.containsKey(tokenId);
+    }
+
+    @Override
+    public synchronized int purgeExpired(Instant now) {
+        long cutoff = now.toEpochMilli();
+        int removed = 0;
+        while (!expiryQueue.isEmpty() && expiryQueue.peek().expiresAt <= cutoff) {
+            revoked.remove(expiryQueue.poll().tokenId);
+            removed++;
+        }
+        if (removed > 0) {
+            // Revocations are blocked while rebuilding, so none can be missed by the new filter
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedTokens, revoked.size()), falsePositiveRate);
+            revoked.keySet().forEach(rebuilt::put);
+            filter = rebuilt;
+        }
+        return removed;
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.revocation.purge-interval-ms:60000}")
+    public void purgeExpiredTokens() {
+        purgeExpired(Instant.now());
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    private record Entry(String tokenId, long expiresAt) implements Comparable<Entry> {
+        @Override
+        public int compareTo(Entry other) {
+            return Long.compare(expiresAt, other.expiresAt);
+        }
+    }
+}
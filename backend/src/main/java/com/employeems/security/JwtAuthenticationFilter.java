@@ -1,6 +1,11 @@
 package com.employeems.security;
 
 import com.employeems.service.UserDetailsServiceImpl;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,6 +19,9 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -24,35 +32,64 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private RevokedTokenStore revokedTokenStore;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // One timer per validation outcome, resolved once instead of looked up in the registry per request
+    private final Map<String, Timer> validationTimers = new ConcurrentHashMap<>();
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, 
                                   FilterChain filterChain) throws ServletException, IOException {
         
         final String requestTokenHeader = request.getHeader("Authorization");
 
-        String username = null;
-        String jwtToken = null;
+        Claims claims = null;
 
-        // JWT Token is in the form "Bearer token". Remove Bearer word and get only the Token
+        // JWT Token is in the form "Bearer token". Remove Bearer word and get only the Token.
+        // The signature and expiration are verified once here; the claims are reused below.
         if (requestTokenHeader != null && requestTokenHeader.startsWith("Bearer ")) {
-            jwtToken = requestTokenHeader.substring(7);
+            String jwtToken = requestTokenHeader.substring(7);
+            long start = System.nanoTime();
+            String outcome = "valid";
             try {
-                username = jwtUtil.extractUsername(jwtToken);
-            } catch (IllegalArgumentException e) {
-                logger.error("Unable to get JWT Token");
-            } catch (Exception e) {
+                claims = jwtUtil.parseValidClaims(jwtToken);
+                String sessionId = jwtUtil.extractSessionId(claims);
+                if ((claims.getId() != null && revokedTokenStore.isRevoked(claims.getId()))
+                        || (sessionId != null && revokedTokenStore.isRevoked(sessionId))) {
+                    logger.warn("JWT Token has been revoked");
+                    outcome = "revoked";
+                    claims = null;
+                }
+            } catch (ExpiredJwtException e) {
                 logger.error("JWT Token has expired");
+                outcome = "expired";
+            } catch (JwtException | IllegalArgumentException e) {
+                logger.error("Unable to get JWT Token");
+                outcome = "invalid";
+            } finally {
+                validationTimers.computeIfAbsent(outcome,
+                                tag -> meterRegistry.timer("employeems.auth.jwt.validation", "outcome", tag))
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
             }
         } else {
             logger.warn("JWT Token does not begin with Bearer String");
         }
 
         // Once we get the token validate it.
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+        if (claims != null && claims.getSubject() != null
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            String username = claims.getSubject();
+            UserDetails userDetails = principalCache.getOrLoad(username, this.userDetailsService::loadUserByUsername);
 
             // if token is valid configure Spring Security to manually set authentication
-            if (jwtUtil.validateToken(jwtToken, userDetails)) {
+            if (jwtUtil.isValidFor(claims, userDetails)) {
                 UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = 
                     new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 usernamePasswordAuthenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -2,6 +2,8 @@ package com.employeems.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
@@ -10,11 +12,15 @@ import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Component
 public class JwtUtil {
 
+    // Shared by the access and refresh tokens of one login; revoking it ends the whole session
+    public static final String SESSION_CLAIM = "sid";
+
     @Value("${jwt.secret}")
     private String secret;
 
@@ -24,8 +30,37 @@ public class JwtUtil {
     @Value("${jwt.refresh-expiration}")
     private Long refreshExpiration;
 
+    // Built once: the key and parser are immutable and safe to share across threads
+    private SecretKey signingKey;
+
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+        return signingKey;
+    }
+
+    /**
+     * Verifies the signature and expiration of the token in a single parse.
+     *
+     * @throws ExpiredJwtException if the token has expired
+     * @throws JwtException if the token is malformed or its signature is invalid
+     */
+    public Claims parseValidClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    public boolean isValidFor(Claims claims, UserDetails userDetails) {
+        return claims.getSubject() != null
+                && claims.getSubject().equals(userDetails.getUsername())
+                && !claims.getExpiration().before(new Date());
     }
 
     public String extractUsername(String token) {
@@ -42,30 +77,43 @@ public class JwtUtil {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
     private Boolean isTokenExpired(String token) {
         return extractExpiration(token).before(new Date());
     }
 
-    public String generateToken(UserDetails userDetails) {
+    public String newSessionId() {
+        return UUID.randomUUID().toString();
+    }
+
+    public String extractSessionId(Claims claims) {
+        return claims.get(SESSION_CLAIM, String.class);
+    }
+
+    public Long getRefreshExpiration() {
+        return refreshExpiration;
+    }
+
+    @Timed(value = "employeems.auth.jwt.issue", extraTags = {"type", "access"})
+    public String generateToken(UserDetails userDetails, String sessionId) {
         Map<String, Object> claims = new HashMap<>();
+        claims.put(SESSION_CLAIM, sessionId);
         return createToken(claims, userDetails.getUsername(), expiration);
     }
 
-    public String generateRefreshToken(UserDetails userDetails) {
+    @Timed(value = "employeems.auth.jwt.issue", extraTags = {"type", "refresh"})
+    public String generateRefreshToken(UserDetails userDetails, String sessionId) {
         Map<String, Object> claims = new HashMap<>();
+        claims.put(SESSION_CLAIM, sessionId);
         return createToken(claims, userDetails.getUsername(), refreshExpiration);
     }
 
     private String createToken(Map<String, Object> claims, String subject, Long expiration) {
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
@@ -74,13 +122,12 @@ public class JwtUtil {
     }
 
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        return isValidFor(extractAllClaims(token), userDetails);
     }
 
     public Boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(token);
+            parser.parseClaimsJws(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
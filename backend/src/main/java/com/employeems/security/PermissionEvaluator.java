@@ -1,38 +1,26 @@
 package com.employeems.security;
 
-import com.employeems.entity.Permission;
 import com.employeems.entity.User;
 import com.employeems.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
-import java.util.Set;
-import java.util.stream.Collectors;
-
 @Component
 public class PermissionEvaluator {
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private PermissionMaskRegistry permissionMaskRegistry;
+
     public boolean hasPermission(Authentication authentication, String permission) {
         if (authentication == null || !authentication.isAuthenticated()) {
             return false;
         }
 
-        String username = authentication.getName();
-        User user = userRepository.findByUsername(username).orElse(null);
-        
-        if (user == null || user.getRole() == null) {
-            return false;
-        }
-
-        Set<String> userPermissions = user.getRole().getPermissions().stream()
-                .map(Permission::getCode)
-                .collect(Collectors.toSet());
-
-        return userPermissions.contains(permission);
+        return permissionMaskRegistry.hasPermission(authentication.getAuthorities(), permission);
     }
 
     public boolean hasAnyPermission(Authentication authentication, String... permissions) {
@@ -40,19 +28,8 @@ public class PermissionEvaluator {
             return false;
         }
 
-        String username = authentication.getName();
-        User user = userRepository.findByUsername(username).orElse(null);
-        
-        if (user == null || user.getRole() == null) {
-            return false;
-        }
-
-        Set<String> userPermissions = user.getRole().getPermissions().stream()
-                .map(Permission::getCode)
-                .collect(Collectors.toSet());
-
         for (String permission : permissions) {
-            if (userPermissions.contains(permission)) {
+            if (permissionMaskRegistry.hasPermission(authentication.getAuthorities(), permission)) {
                 return true;
             }
         }
@@ -64,19 +41,16 @@ public class PermissionEvaluator {
             return false;
         }
 
-        String username = authentication.getName();
-        User user = userRepository.findByUsername(username).orElse(null);
-        
-        if (user == null) {
-            return false;
+        // Check if user has the required permission (no database access)
+        if (permissionMaskRegistry.hasPermission(authentication.getAuthorities(), permission)) {
+            return true;
         }
 
         // Check if user is accessing their own data
-        if (user.getId().equals(userId)) {
-            return true;
+        if (authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getId().equals(userId);
         }
-
-        // Check if user has the required permission
-        return hasPermission(authentication, permission);
+        User user = userRepository.findByUsername(authentication.getName()).orElse(null);
+        return user != null && user.getId().equals(userId);
     }
 }
@@ -0,0 +1,126 @@
+package com.employeems.security;
+
+import com.employeems.entity.Permission;
+import com.employeems.entity.Role;
+import com.employeems.repository.RoleRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Interns permission codes to dense integer ids and compiles each role into
+ * an immutable bitset, keyed by the role's granted authority ("ROLE_" + code).
+ * Permission checks are then a map lookup and a bit test.
+ */
+@Component
+public class PermissionMaskRegistry {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private static final long[] EMPTY_MASK = new long[0];
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    private final Map<String, Integer> permissionIds = new ConcurrentHashMap<>();
+
+    private final AtomicInteger nextPermissionId = new AtomicInteger();
+
+    // Replaced wholesale on every change; the published map and masks are never mutated
+    private volatile Map<String, long[]> roleMasks = Map.of();
+
+    public boolean hasPermission(Collection<? extends GrantedAuthority> authorities, String permissionCode) {
+        Integer permissionId = permissionIds.get(permissionCode);
+        if (permissionId == null) {
+            return false; // No role grants a permission that was never interned
+        }
+        for (GrantedAuthority authority : authorities) {
+            if (isSet(maskFor(authority.getAuthority()), permissionId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Unknown roles are cached as EMPTY_MASK; registerRole and rebuild replace those entries
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        synchronized (this) {
+            Map<String, long[]> compiled = new HashMap<>();
+            for (Role role : roleRepository.findAll()) {
+                compiled.put(ROLE_PREFIX + role.getCode(), compile(role));
+            }
+            roleMasks = Map.copyOf(compiled);
+        }
+    }
+
+    public void registerRole(Role role) {
+        long[] mask = compile(role);
+        synchronized (this) {
+            roleMasks = with(roleMasks, ROLE_PREFIX + role.getCode(), mask);
+        }
+    }
+
+    private long[] maskFor(String authority) {
+        long[] mask = roleMasks.get(authority);
+        if (mask != null) {
+            return mask;
+        }
+        if (authority == null || !authority.startsWith(ROLE_PREFIX)) {
+            return EMPTY_MASK;
+        }
+        // Role created outside RolePermissionService: compile it on first use
+        Role role = roleRepository.findByCode(authority.substring(ROLE_PREFIX.length())).orElse(null);
+        if (role == null) {
+            // Remember the miss so an unknown role costs one lookup rather than one per check
+            synchronized (this) {
+                if (!roleMasks.containsKey(authority)) {
+                    roleMasks = with(roleMasks, authority, EMPTY_MASK);
+                }
+            }
+            return EMPTY_MASK;
+        }
+        registerRole(role);
+        return roleMasks.getOrDefault(authority, EMPTY_MASK);
+    }
+
+    private static Map<String, long[]> with(Map<String, long[]> masks, String authority, long[] mask) {
+        Map<String, long[]> updated = new HashMap<>(masks);
+        updated.put(authority, mask);
+        return Map.copyOf(updated);
+    }
+
+    private long[] compile(Role role) {
+        long[] mask = EMPTY_MASK;
+        if (role.getPermissions() == null) {
+            return mask;
+        }
+        for (Permission permission : role.getPermissions()) {
+            int id = internPermission(permission.getCode());
+            int word = id >>> 6;
+            if (word >= mask.length) {
+                long[] grown = new long[word + 1];
+                System.arraycopy(mask, 0, grown, 0, mask.length);
+                mask = grown;
+            }
+            mask[word] |= 1L << id;
+        }
+        return mask;
+    }
+
+    private int internPermission(String code) {
+        return permissionIds.computeIfAbsent(code, c -> nextPermissionId.getAndIncrement());
+    }
+
+    private static boolean isSet(long[] mask, int id) {
+        int word = id >>> 6;
+        return word < mask.length && (mask[word] & (1L << id)) != 0;
+    }
+}
@@ -0,0 +1,111 @@
+package com.employeems.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Size-bounded, TTL-based cache of authenticated principals keyed by username.
+ * Lets JwtAuthenticationFilter skip the user lookup on most requests.
+ * Entries are invalidated explicitly when the underlying User changes; an
+ * invalidation that lands while a principal is loading keeps that load from
+ * being cached.
+ */
+@Component
+public class PrincipalCache {
+
+    private final int maxSize;
+
+    private final long ttlNanos;
+
+    private final LinkedHashMap<String, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    public PrincipalCache(@Value("${app.security.principal-cache.max-size:10000}") int maxSize,
+                          @Value("${app.security.principal-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        // Access-ordered so the least recently used principal is evicted first
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > PrincipalCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public UserDetails getOrLoad(String username, Function<String, UserDetails> loader) {
+        long now = System.nanoTime();
+        // Marks the load in progress; an invalidate removes it, and the loaded principal is then not cached
+        Entry pending = new Entry(null, now);
+        synchronized (entries) {
+            Entry entry = entries.get(username);
+            if (entry != null && entry.userDetails != null && entry.expiresAt - now > 0) {
+                hits.increment();
+                return entry.userDetails;
+            }
+            if (maxSize > 0) {
+                entries.put(username, pending);
+            }
+        }
+
+        misses.increment();
+        UserDetails userDetails = null;
+        try {
+            userDetails = loader.apply(username);
+            return userDetails;
+        } finally {
+            if (maxSize > 0) {
+                synchronized (entries) {
+                    if (entries.get(username) == pending) {
+                        if (userDetails != null) {
+                            entries.put(username, new Entry(userDetails, System.nanoTime() + ttlNanos));
+                        } else {
+                            entries.remove(username);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    public void invalidate(String username) {
+        synchronized (entries) {
+            entries.remove(username);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public long getHitCount() { return hits.sum(); }
+
+    public long getMissCount() { return misses.sum(); }
+
+    public long getEvictionCount() { return evictions.sum(); }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private record Entry(UserDetails userDetails, long expiresAt) {}
+}
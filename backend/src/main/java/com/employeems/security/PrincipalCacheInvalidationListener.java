@@ -0,0 +1,54 @@
+package com.employeems.security;
+
+import com.employeems.entity.User;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Drops cached principals when a User row changes (status, role, password,
+ * username). The entry is evicted immediately and again after commit, so a
+ * request that reloads the user mid-transaction cannot leave the old state
+ * cached. On a rename both the old and the new username are evicted.
+ */
+@Component
+public class PrincipalCacheInvalidationListener {
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @PostLoad
+    @PostPersist
+    public void onRead(User user) {
+        user.setPersistedUsername(user.getUsername());
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(User user) {
+        String username = user.getUsername();
+        String previousUsername = user.getPersistedUsername();
+        user.setPersistedUsername(username);
+        invalidate(username, previousUsername);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(username, previousUsername);
+                }
+            });
+        }
+    }
+
+    private void invalidate(String username, String previousUsername) {
+        principalCache.invalidate(username);
+        if (previousUsername != null && !previousUsername.equals(username)) {
+            principalCache.invalidate(previousUsername);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.employeems.security;
+
+import java.time.Instant;
+
+/**
+ * Storage for revoked token ids (the JWT "jti" claim). isRevoked is called on
+ * every authenticated request and must be O(1) and cheap. An entry only needs
+ * to be kept until the token's own expiration, after which the parser rejects
+ * it anyway.
+ *
+ * InMemoryRevokedTokenStore is the in-JVM default. Declare a @Primary bean of
+ * this type to share revocations across instances.
+ */
+public interface RevokedTokenStore {
+
+    /**
+     * Revokes the id atomically; returns false if it was already revoked, so
+     * exactly one of several concurrent callers wins.
+     */
+    boolean revoke(String tokenId, Instant expiresAt);
+
+    boolean isRevoked(String tokenId);
+
+    /** Drops entries whose tokens have expired; returns how many were removed. */
+    int purgeExpired(Instant now);
+}
@@ -0,0 +1,51 @@
+package com.employeems.security;
+
+import com.employeems.entity.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Authenticated principal that carries the User loaded during authentication,
+ * so login, token minting and ownership checks need no further lookups.
+ * The User must have its role initialized before it is wrapped.
+ */
+public class UserPrincipal implements UserDetails {
+
+    private final User user;
+
+    private final List<GrantedAuthority> authorities;
+
+    public UserPrincipal(User user) {
+        this.user = user;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().getCode()));
+    }
+
+    public User getUser() { return user; }
+
+    public Long getId() { return user.getId(); }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() { return authorities; }
+
+    @Override
+    public String getPassword() { return user.getHashedPassword(); }
+
+    @Override
+    public String getUsername() { return user.getUsername(); }
+
+    @Override
+    public boolean isAccountNonExpired() { return true; }
+
+    @Override
+    public boolean isAccountNonLocked() { return user.getStatus() == User.UserStatus.ACTIVE; }
+
+    @Override
+    public boolean isCredentialsNonExpired() { return true; }
+
+    @Override
+    public boolean isEnabled() { return user.getStatus() != User.UserStatus.INACTIVE; }
+}
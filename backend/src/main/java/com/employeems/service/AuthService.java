@@ -4,25 +4,38 @@ import com.employeems.dto.AuthResponse;
 import com.employeems.dto.LoginRequest;
 import com.employeems.dto.RegisterRequest;
 import com.employeems.entity.User;
+import com.employeems.exception.ServiceOverloadedException;
+import com.employeems.repository.RoleRepository;
 import com.employeems.repository.UserRepository;
 import com.employeems.security.JwtUtil;
+import com.employeems.security.RevokedTokenStore;
+import com.employeems.security.UserPrincipal;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 
 @Service
 public class AuthService {
 
+    // Self-registration never grants more than this; other roles are assigned by an administrator
+    private static final String SELF_REGISTRATION_ROLE = "EMPLOYEE";
+
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private RoleRepository roleRepository;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
@@ -33,35 +46,35 @@ public class AuthService {
     private AuthenticationManager authenticationManager;
 
     @Autowired
-    private UserDetailsServiceImpl userDetailsService;
+    private RevokedTokenStore revokedTokenStore;
+
+    @Autowired
+    private LastLoginRecorder lastLoginRecorder;
 
     @Value("${jwt.expiration}")
     private Long jwtExpiration;
 
     public AuthResponse login(LoginRequest loginRequest) {
         try {
-            // Authenticate user
-            authenticationManager.authenticate(
+            // Authenticate user; the provider resolves the user once by any identifier
+            Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(loginRequest.getIdentifier(), loginRequest.getPassword())
             );
+            UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+            User user = principal.getUser();
 
-            // Load user details
-            UserDetails userDetails = userDetailsService.loadUserByUsername(loginRequest.getIdentifier());
-            
-            // Find user entity
-            User user = userRepository.findByUsernameOrEmailOrEmployeeId(loginRequest.getIdentifier())
-                .orElseThrow(() -> new BadCredentialsException("Invalid credentials"));
-
-            // Update last login time
-            user.setLastLoginAt(LocalDateTime.now());
-            userRepository.save(user);
+            // Record last login time; written asynchronously in coalesced batches
+            lastLoginRecorder.record(user.getId(), LocalDateTime.now());
 
             // Generate tokens
-            String accessToken = jwtUtil.generateToken(userDetails);
-            String refreshToken = jwtUtil.generateRefreshToken(userDetails);
+            String sessionId = jwtUtil.newSessionId();
+            String accessToken = jwtUtil.generateToken(principal, sessionId);
+            String refreshToken = jwtUtil.generateRefreshToken(principal, sessionId);
 
             return new AuthResponse(accessToken, refreshToken, jwtExpiration, new AuthResponse.UserInfo(user));
 
+        } catch (ServiceOverloadedException e) {
+            throw e;
         } catch (Exception e) {
             throw new BadCredentialsException("Invalid credentials");
         }
@@ -86,38 +99,75 @@ public class AuthService {
         user.setHashedPassword(passwordEncoder.encode(registerRequest.getPassword()));
         user.setEmployeeId(registerRequest.getEmployeeId());
         user.setDepartment(registerRequest.getDepartment());
-        user.setRole(registerRequest.getRole());
+        user.setRole(roleRepository.findByCode(SELF_REGISTRATION_ROLE)
+                .orElseThrow(() -> new RuntimeException("Role not found: " + SELF_REGISTRATION_ROLE)));
         user.setStatus(User.UserStatus.ACTIVE);
 
         user = userRepository.save(user);
 
         // Generate tokens
-        UserDetails userDetails = userDetailsService.loadUserByUsername(user.getUsername());
-        String accessToken = jwtUtil.generateToken(userDetails);
-        String refreshToken = jwtUtil.generateRefreshToken(userDetails);
+        UserPrincipal principal = new UserPrincipal(user);
+        String sessionId = jwtUtil.newSessionId();
+        String accessToken = jwtUtil.generateToken(principal, sessionId);
+        String refreshToken = jwtUtil.generateRefreshToken(principal, sessionId);
 
         return new AuthResponse(accessToken, refreshToken, jwtExpiration, new AuthResponse.UserInfo(user));
     }
 
     public AuthResponse refreshToken(String refreshToken) {
-        if (!jwtUtil.validateToken(refreshToken)) {
+        Claims claims;
+        try {
+            claims = jwtUtil.parseValidClaims(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new RuntimeException("Invalid refresh token");
+        }
+        if (isRevoked(claims)) {
+            throw new RuntimeException("Invalid refresh token");
+        }
+        // Refresh tokens are single use: the presented one is revoked as it is rotated, and of
+        // concurrent refreshes with the same token only the one that revokes it gets new tokens
+        if (claims.getId() != null && !revokedTokenStore.revoke(claims.getId(), claims.getExpiration().toInstant())) {
             throw new RuntimeException("Invalid refresh token");
         }
 
-        String username = jwtUtil.extractUsername(refreshToken);
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-        User user = userRepository.findByUsernameOrEmail(username, username)
+        String username = claims.getSubject();
+        User user = userRepository.findForAuthentication(username)
             .orElseThrow(() -> new RuntimeException("User not found"));
+        UserPrincipal principal = new UserPrincipal(user);
 
-        String newAccessToken = jwtUtil.generateToken(userDetails);
-        String newRefreshToken = jwtUtil.generateRefreshToken(userDetails);
+        // Rotated tokens stay in the same session so logout still revokes them
+        String sessionId = jwtUtil.extractSessionId(claims);
+        if (sessionId == null) {
+            sessionId = jwtUtil.newSessionId();
+        }
+        String newAccessToken = jwtUtil.generateToken(principal, sessionId);
+        String newRefreshToken = jwtUtil.generateRefreshToken(principal, sessionId);
 
         return new AuthResponse(newAccessToken, newRefreshToken, jwtExpiration, new AuthResponse.UserInfo(user));
     }
 
     public void logout(String token) {
-        // In a production system, you would add the token to a blacklist
-        // For now, we'll just acknowledge the logout
-        // TODO: Implement token blacklisting
+        String jwtToken = token != null && token.startsWith("Bearer ") ? token.substring(7) : token;
+        try {
+            // Revoked until it would have expired anyway; afterwards the parser rejects it
+            Claims claims = jwtUtil.parseValidClaims(jwtToken);
+            if (claims.getId() != null) {
+                revokedTokenStore.revoke(claims.getId(), claims.getExpiration().toInstant());
+            }
+            // Revoking the session also revokes its refresh tokens, the latest of which
+            // cannot outlive a refresh token issued now
+            String sessionId = jwtUtil.extractSessionId(claims);
+            if (sessionId != null) {
+                revokedTokenStore.revoke(sessionId, Instant.now().plusMillis(jwtUtil.getRefreshExpiration()));
+            }
+        } catch (JwtException | IllegalArgumentException e) {
+            // Already expired or invalid: nothing to revoke
+        }
+    }
+
+    private boolean isRevoked(Claims claims) {
+        String sessionId = jwtUtil.extractSessionId(claims);
+        return (claims.getId() != null && revokedTokenStore.isRevoked(claims.getId()))
+                || (sessionId != null && revokedTokenStore.isRevoked(sessionId));
     }
 }
@@ -1,18 +1,28 @@
 package com.employeems.service;
 
 import com.employeems.dto.DepartmentDto;
+import com.employeems.dto.ResourceVersion;
 import com.employeems.entity.Department;
 import com.employeems.entity.Employee;
 import com.employeems.repository.DepartmentRepository;
 import com.employeems.repository.EmployeeRepository;
+import com.employeems.repository.TableFingerprint;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("employeems.service")
 @Transactional
 public class DepartmentService {
 
@@ -22,28 +32,88 @@ public class DepartmentService {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private HeadcountService headcountService;
+
     public List<DepartmentDto> getAllDepartments() {
-        return departmentRepository.findAll().stream()
-                .map(DepartmentDto::new)
-                .collect(Collectors.toList());
+        Map<Long, DepartmentDto> nodes = loadHierarchy();
+        applyHeadcounts(nodes.values(), headcountService.countAllByDepartment());
+        return new ArrayList<>(nodes.values());
     }
 
     public DepartmentDto getDepartmentById(Long id) {
-        Department department = departmentRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Department not found with id: " + id));
-        return new DepartmentDto(department);
+        List<Department> departments = departmentRepository.findAllWithManagerByIdIn(List.of(id));
+        if (departments.isEmpty()) {
+            throw new RuntimeException("Department not found with id: " + id);
+        }
+        return loadSubtrees(departments).get(0);
+    }
+
+    /**
+     * Version of the department views for conditional GET. Every view carries
+     * headcounts and manager names, so the fingerprint covers the employees
+     * table as well: two aggregate queries, no entities loaded.
+     */
+    @Transactional(readOnly = true)
+    public ResourceVersion getDepartmentsVersion() {
+        return departmentsVersion("departments");
+    }
+
+    @Transactional(readOnly = true)
+    public ResourceVersion getDepartmentVersion(Long id) {
+        return departmentsVersion("department-" + id);
+    }
+
+    private ResourceVersion departmentsVersion(String prefix) {
+        TableFingerprint departments = departmentRepository.findTableFingerprint();
+        TableFingerprint employees = employeeRepository.findTableFingerprint();
+        return new ResourceVersion(prefix + "-" + departments.toTag() + "-" + employees.toTag(),
+                departments.getLastModified(), employees.getLastModified());
     }
 
     public List<DepartmentDto> getRootDepartments() {
-        return departmentRepository.findByParentDepartmentIsNull().stream()
-                .map(DepartmentDto::new)
+        // The roots' subtrees cover every department, so load the hierarchy whole
+        Map<Long, DepartmentDto> nodes = loadHierarchy();
+        applyHeadcounts(nodes.values(), headcountService.countAllByDepartment());
+        return nodes.values().stream()
+                .filter(node -> node.getParentDepartmentId() == null)
                 .collect(Collectors.toList());
     }
 
-    public List<DepartmentDto> getSubDepartments(Long parentId) {
-        return departmentRepository.findByParentDepartmentId(parentId).stream()
-                .map(DepartmentDto::new)
+    /**
+     * Builds the full department hierarchy from one department query and one
+     * grouped headcount query. Levels below maxDepth are omitted (null = unlimited).
+     */
+    @Transactional(readOnly = true)
+    public List<DepartmentDto> getDepartmentTree(Integer maxDepth) {
+        if (maxDepth != null && maxDepth < 1) {
+            throw new RuntimeException("maxDepth must be at least 1");
+        }
+
+        Map<Long, DepartmentDto> nodes = loadHierarchy();
+        applyHeadcounts(nodes.values(), headcountService.countAllByDepartment());
+
+        List<DepartmentDto> roots = nodes.values().stream()
+                .filter(node -> node.getParentDepartmentId() == null || !nodes.containsKey(node.getParentDepartmentId()))
                 .collect(Collectors.toList());
+        if (maxDepth != null) {
+            truncate(roots, maxDepth);
+        }
+        return roots;
+    }
+
+    private void truncate(List<DepartmentDto> level, int remainingDepth) {
+        for (DepartmentDto node : level) {
+            if (remainingDepth <= 1) {
+                node.setSubDepartments(null);
+            } else {
+                truncate(node.getSubDepartments(), remainingDepth - 1);
+            }
+        }
+    }
+
+    public List<DepartmentDto> getSubDepartments(Long parentId) {
+        return loadSubtrees(departmentRepository.findAllWithManagerByParentIdIn(List.of(parentId)));
     }
 
     public DepartmentDto createDepartment(DepartmentDto departmentDto) {
@@ -58,7 +128,7 @@ public class DepartmentService {
         updateDepartmentFromDto(department, departmentDto);
         
         department = departmentRepository.save(department);
-        return new DepartmentDto(department);
+        return getDepartmentById(department.getId());
     }
 
     public DepartmentDto updateDepartment(Long id, DepartmentDto departmentDto) {
@@ -77,7 +147,7 @@ public class DepartmentService {
 
         updateDepartmentFromDto(department, departmentDto);
         department = departmentRepository.save(department);
-        return new DepartmentDto(department);
+        return getDepartmentById(department.getId());
     }
 
     public void deleteDepartment(Long id) {
@@ -100,9 +170,76 @@ public class DepartmentService {
     }
 
     public List<DepartmentDto> searchDepartments(String searchTerm) {
-        return departmentRepository.searchDepartments(searchTerm).stream()
-                .map(DepartmentDto::new)
-                .collect(Collectors.toList());
+        return loadSubtrees(departmentRepository.searchDepartments(searchTerm));
+    }
+
+    /**
+     * Loads every department (with its manager) in one query and links each
+     * flat DTO to its parent in memory. Sub-department lists share instances,
+     * so a department nested under its parent is the same object as its
+     * top-level entry. Headcounts are left at 0 for applyHeadcounts.
+     */
+    private Map<Long, DepartmentDto> loadHierarchy() {
+        List<Department> departments = departmentRepository.findAllWithManager();
+        Map<Long, DepartmentDto> nodes = new LinkedHashMap<>(departments.size() * 2);
+        for (Department department : departments) {
+            nodes.put(department.getId(), new DepartmentDto(department, 0L));
+        }
+        for (DepartmentDto node : nodes.values()) {
+            DepartmentDto parent = node.getParentDepartmentId() != null ? nodes.get(node.getParentDepartmentId()) : null;
+            if (parent != null) {
+                node.setParentDepartmentName(parent.getName());
+                parent.getSubDepartments().add(node);
+            }
+        }
+        return nodes;
+    }
+
+    /**
+     * Maps the given departments and everything nested beneath them, loading
+     * one level of sub-departments per query, and fills in headcounts for just
+     * those departments with one grouped count query. A department that is also
+     * nested under another selected one is the same instance in both places.
+     */
+    private List<DepartmentDto> loadSubtrees(List<Department> selected) {
+        Map<Long, DepartmentDto> nodes = new LinkedHashMap<>();
+        List<DepartmentDto> result = new ArrayList<>(selected.size());
+        for (Department department : selected) {
+            DepartmentDto node = nodes.computeIfAbsent(department.getId(), id -> toNode(department));
+            result.add(node);
+        }
+
+        Set<Long> frontier = new HashSet<>(nodes.keySet());
+        while (!frontier.isEmpty()) {
+            Set<Long> next = new HashSet<>();
+            for (Department child : departmentRepository.findAllWithManagerByParentIdIn(frontier)) {
+                DepartmentDto node = nodes.get(child.getId());
+                if (node == null) {
+                    node = toNode(child);
+                    nodes.put(child.getId(), node);
+                    next.add(child.getId());
+                }
+                nodes.get(child.getParentDepartment().getId()).getSubDepartments().add(node);
+            }
+            frontier = next;
+        }
+
+        if (!nodes.isEmpty()) {
+            applyHeadcounts(nodes.values(), headcountService.countByDepartment(nodes.keySet()));
+        }
+        return result;
+    }
+
+    private static DepartmentDto toNode(Department department) {
+        DepartmentDto node = new DepartmentDto(department, 0L);
+        node.setParentDepartmentName(department.getParentDepartment() != null ? department.getParentDepartment().getName() : null);
+        return node;
+    }
+
+    private static void applyHeadcounts(Collection<DepartmentDto> nodes, Map<Long, Long> headcounts) {
+        for (DepartmentDto node : nodes) {
+            node.setEmployeeCount(headcounts.getOrDefault(node.getId(), 0L));
+        }
     }
 
     private void updateDepartmentFromDto(Department department, DepartmentDto dto) {
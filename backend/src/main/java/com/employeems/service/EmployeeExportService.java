@@ -0,0 +1,127 @@
+package com.employeems.service;
+
+import com.employeems.dto.EmployeeDto;
+import com.employeems.entity.Employee;
+import com.employeems.repository.EmployeeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes every employee to an output stream while reading them from a
+ * database cursor, so heap use does not grow with the number of rows.
+ */
+@Service
+public class EmployeeExportService {
+
+    // Matches the fetch size hint on EmployeeRepository.streamAllForExport
+    private static final int BATCH_SIZE = 500;
+
+    private static final String[] CSV_HEADER = {
+        "id", "employeeId", "firstName", "lastName", "email", "phoneNumber", "departmentId", "departmentName",
+        "designationId", "designationTitle", "employmentType", "dateOfJoining", "status", "managerId", "managerName"
+    };
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public enum Format {
+        NDJSON, CSV
+    }
+
+    @Transactional(readOnly = true)
+    public void export(Format format, OutputStream outputStream) throws IOException {
+        try (Stream<Employee> employees = employeeRepository.streamAllForExport()) {
+            if (format == Format.CSV) {
+                writeCsv(employees.iterator(), outputStream);
+            } else {
+                writeNdjson(employees.iterator(), outputStream);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeNdjson(Iterator<Employee> employees, OutputStream outputStream) throws IOException {
+        try (SequenceWriter writer = objectMapper.writerFor(EmployeeDto.class)
+                .withRootValueSeparator("\n")
+                .writeValues(outputStream)) {
+            int count = 0;
+            while (employees.hasNext()) {
+                Employee employee = employees.next();
+                writer.write(new EmployeeDto(employee));
+                release(employee, ++count);
+            }
+            writer.flush();
+            outputStream.write('\n');
+        }
+    }
+
+    private void writeCsv(Iterator<Employee> employees, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writeCsvRow(writer, (Object[]) CSV_HEADER);
+        int count = 0;
+        while (employees.hasNext()) {
+            Employee employee = employees.next();
+            EmployeeDto dto = new EmployeeDto(employee);
+            writeCsvRow(writer, dto.getId(), dto.getEmployeeId(), dto.getFirstName(), dto.getLastName(),
+                    dto.getEmail(), dto.getPhoneNumber(), dto.getDepartmentId(), dto.getDepartmentName(),
+                    dto.getDesignationId(), dto.getDesignationTitle(), dto.getEmploymentType(),
+                    dto.getDateOfJoining(), dto.getStatus(), dto.getManagerId(), dto.getManagerName());
+            release(employee, ++count);
+        }
+        writer.flush();
+    }
+
+    private void release(Employee employee, int count) {
+        // Detach each row once written and periodically drop the fetched
+        // associations so the persistence context stays bounded.
+        entityManager.detach(employee);
+        if (count % BATCH_SIZE == 0) {
+            entityManager.clear();
+        }
+    }
+
+    private static void writeCsvRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(escapeCsv(values[i].toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private static String escapeCsv(String value) {
+        // Spreadsheets evaluate cells starting with these characters as formulas; a leading quote keeps them text
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
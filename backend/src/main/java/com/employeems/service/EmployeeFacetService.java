@@ -0,0 +1,85 @@
+package com.employeems.service;
+
+import com.employeems.dto.EmployeeFacets;
+import com.employeems.entity.Employee;
+import com.employeems.facet.EmployeeFacetCounters;
+import com.employeems.facet.EmployeeFacetKey;
+import com.employeems.repository.EmployeeRepository;
+import com.employeems.repository.FacetCountRow;
+import com.employeems.search.EmployeeSearchIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Directory facet counts. Unfiltered requests are answered from the in-memory
+ * counters without touching the database. A search term is resolved through the
+ * search index, so the counts cover exactly the employees a search returns, and
+ * those ids are counted from the counters' per-employee keys. Other filters run
+ * a single grouped query and sum its rows per facet.
+ */
+@Service
+@Transactional(readOnly = true)
+public class EmployeeFacetService {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeFacetCounters facetCounters;
+
+    @Autowired
+    private EmployeeSearchIndex searchIndex;
+
+    public EmployeeFacets getFacets(String searchTerm, Long departmentId, Long designationId,
+                                    Employee.EmployeeStatus status, Employee.EmploymentType employmentType) {
+        boolean hasSearchTerm = searchTerm != null && !searchTerm.isBlank();
+        if (!hasSearchTerm && departmentId == null && designationId == null && status == null && employmentType == null) {
+            return facetCounters.snapshot();
+        }
+
+        if (hasSearchTerm) {
+            return facetCounters.count(searchIndex.search(searchTerm), key ->
+                    (departmentId == null || departmentId.equals(key.departmentId()))
+                    && (designationId == null || designationId.equals(key.designationId()))
+                    && (status == null || status == key.status())
+                    && (employmentType == null || employmentType == key.employmentType()));
+        }
+
+        long total = 0;
+        Map<Employee.EmployeeStatus, Long> byStatus = new EnumMap<>(Employee.EmployeeStatus.class);
+        Map<Long, Long> byDepartment = new HashMap<>();
+        Map<Long, Long> byDesignation = new HashMap<>();
+        Map<Employee.EmploymentType, Long> byEmploymentType = new EnumMap<>(Employee.EmploymentType.class);
+        for (FacetCountRow row : employeeRepository.countFacetCombinations(departmentId, designationId,
+                status, employmentType)) {
+            long count = row.getHeadcount();
+            total += count;
+            if (row.getStatus() != null) {
+                byStatus.merge(row.getStatus(), count, Long::sum);
+            }
+            if (row.getDepartmentId() != null) {
+                byDepartment.merge(row.getDepartmentId(), count, Long::sum);
+            }
+            if (row.getDesignationId() != null) {
+                byDesignation.merge(row.getDesignationId(), count, Long::sum);
+            }
+            if (row.getEmploymentType() != null) {
+                byEmploymentType.merge(row.getEmploymentType(), count, Long::sum);
+            }
+        }
+        return new EmployeeFacets(total, byStatus, byDepartment, byDesignation, byEmploymentType);
+    }
+
+    public void rebuildCounters() {
+        facetCounters.clear();
+        for (Object[] row : employeeRepository.findFacetKeyRows()) {
+            facetCounters.put((Long) row[0], new EmployeeFacetKey((Employee.EmployeeStatus) row[1], (Long) row[2],
+                    (Long) row[3], (Employee.EmploymentType) row[4]));
+        }
+    }
+}
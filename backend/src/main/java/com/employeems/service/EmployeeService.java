@@ -1,25 +1,76 @@
 package com.employeems.service;
 
+import com.employeems.dto.EmployeeCursorPage;
 import com.employeems.dto.EmployeeDto;
+import com.employeems.dto.EmployeeLookupRequest;
+import com.employeems.dto.EmployeeLookupResponse;
+import com.employeems.dto.EmployeeSummary;
+import com.employeems.dto.ResourceVersion;
 import com.employeems.entity.Department;
 import com.employeems.entity.Designation;
 import com.employeems.entity.Employee;
 import com.employeems.repository.DepartmentRepository;
 import com.employeems.repository.DesignationRepository;
 import com.employeems.repository.EmployeeRepository;
+import com.employeems.repository.EmployeeSortField;
+import com.employeems.repository.EmployeeSpecifications;
+import com.employeems.repository.EmployeeVersionRow;
+import com.employeems.search.EmployeeSearchIndex;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("employeems.service")
 @Transactional
 public class EmployeeService {
 
+    // Rows flushed per chunk by createEmployees; a multiple of hibernate.jdbc.batch_size
+    private static final int BATCH_CHUNK_SIZE = 500;
+
+    private static final int MAX_BATCH_SIZE = 10000;
+
+    // Keys accepted by one lookupEmployees call, and IN-list size per lookup query
+    private static final int MAX_LOOKUP_SIZE = 5000;
+
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+
     @Autowired
     private EmployeeRepository employeeRepository;
 
@@ -29,15 +80,21 @@ public class EmployeeService {
     @Autowired
     private DesignationRepository designationRepository;
 
+    @Autowired
+    private EmployeeSearchIndex searchIndex;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     public List<EmployeeDto> getAllEmployees() {
         return employeeRepository.findAll().stream()
                 .map(EmployeeDto::new)
                 .collect(Collectors.toList());
     }
 
-    public Page<EmployeeDto> getAllEmployees(Pageable pageable) {
-        return employeeRepository.findAll(pageable)
-                .map(EmployeeDto::new);
+    @Transactional(readOnly = true)
+    public Page<EmployeeSummary> getAllEmployees(Pageable pageable) {
+        return employeeRepository.findAllSummaries(pageable);
     }
 
     public EmployeeDto getEmployeeById(Long id) {
@@ -46,6 +103,78 @@ public class EmployeeService {
         return new EmployeeDto(employee);
     }
 
+    // Version check for conditional GET; reads only version columns, no entity is loaded
+    @Transactional(readOnly = true)
+    public ResourceVersion getEmployeeVersion(Long id) {
+        EmployeeVersionRow row = employeeRepository.findVersionById(id)
+                .orElseThrow(() -> new RuntimeException("Employee not found with id: " + id));
+        String tag = "employee-" + id + "-" + row.getEmployeeVersion()
+                + "." + versionOrNone(row.getDepartmentVersion())
+                + "." + versionOrNone(row.getDesignationVersion())
+                + "." + versionOrNone(row.getManagerVersion());
+        return new ResourceVersion(tag, row.getEmployeeUpdatedAt(), row.getDepartmentUpdatedAt(),
+                row.getDesignationUpdatedAt(), row.getManagerUpdatedAt());
+    }
+
+    /**
+     * Resolves many employees by id and/or employee ID in a handful of statements:
+     * keys are de-duplicated and queried in IN-list chunks with department,
+     * designation and manager fetch-joined. Keys that match nothing are reported
+     * as missing rather than failing the request.
+     */
+    @Transactional(readOnly = true)
+    public EmployeeLookupResponse lookupEmployees(EmployeeLookupRequest request) {
+        Set<Long> ids = request.getIds() != null ? new LinkedHashSet<>(request.getIds()) : new LinkedHashSet<>();
+        Set<String> employeeIds = request.getEmployeeIds() != null
+                ? new LinkedHashSet<>(request.getEmployeeIds()) : new LinkedHashSet<>();
+        if (ids.contains(null) || employeeIds.contains(null)) {
+            throw new RuntimeException("Lookup keys must not be null");
+        }
+        if (ids.size() + employeeIds.size() > MAX_LOOKUP_SIZE) {
+            throw new RuntimeException("Lookup exceeds the maximum of " + MAX_LOOKUP_SIZE + " keys");
+        }
+
+        Map<Long, EmployeeDto> foundById =
+                lookupInChunks(ids, employeeRepository::findAllWithAssociationsByIdIn, Employee::getId);
+        Map<String, EmployeeDto> foundByEmployeeId =
+                lookupInChunks(employeeIds, employeeRepository::findAllWithAssociationsByEmployeeIdIn, Employee::getEmployeeId);
+
+        Map<Long, EmployeeDto> byId = new LinkedHashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            EmployeeDto employee = foundById.get(id);
+            if (employee != null) {
+                byId.put(id, employee);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        Map<String, EmployeeDto> byEmployeeId = new LinkedHashMap<>();
+        List<String> missingEmployeeIds = new ArrayList<>();
+        for (String employeeId : employeeIds) {
+            EmployeeDto employee = foundByEmployeeId.get(employeeId);
+            if (employee != null) {
+                byEmployeeId.put(employeeId, employee);
+            } else {
+                missingEmployeeIds.add(employeeId);
+            }
+        }
+        return new EmployeeLookupResponse(byId, byEmployeeId, missingIds, missingEmployeeIds);
+    }
+
+    private <K> Map<K, EmployeeDto> lookupInChunks(Collection<K> keys, Function<Collection<K>, List<Employee>> query,
+                                                   Function<Employee, K> keyOf) {
+        Map<K, EmployeeDto> found = new HashMap<>();
+        List<K> keyList = new ArrayList<>(keys);
+        for (int from = 0; from < keyList.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<K> chunk = keyList.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, keyList.size()));
+            for (Employee employee : query.apply(chunk)) {
+                found.put(keyOf.apply(employee), new EmployeeDto(employee));
+            }
+        }
+        return found;
+    }
+
     public EmployeeDto getEmployeeByEmployeeId(String employeeId) {
         Employee employee = employeeRepository.findByEmployeeId(employeeId)
                 .orElseThrow(() -> new RuntimeException("Employee not found with employee ID: " + employeeId));
@@ -65,9 +194,104 @@ public class EmployeeService {
         updateEmployeeFromDto(employee, employeeDto);
         
         employee = employeeRepository.save(employee);
+        updateReportingPath(employee);
         return new EmployeeDto(employee);
     }
 
+    public List<EmployeeDto> createEmployees(List<EmployeeDto> employeeDtos) {
+        if (employeeDtos.size() > MAX_BATCH_SIZE) {
+            throw new RuntimeException("Batch size exceeds the maximum of " + MAX_BATCH_SIZE + " employees");
+        }
+
+        // Reject duplicates within the request before touching the database
+        Set<String> employeeIds = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (EmployeeDto dto : employeeDtos) {
+            if (!employeeIds.add(dto.getEmployeeId())) {
+                throw new RuntimeException("Duplicate employee ID in batch: " + dto.getEmployeeId());
+            }
+            if (!emails.add(dto.getEmail())) {
+                throw new RuntimeException("Duplicate email in batch: " + dto.getEmail());
+            }
+        }
+
+        List<EmployeeDto> created = new ArrayList<>(employeeDtos.size());
+        for (int from = 0; from < employeeDtos.size(); from += BATCH_CHUNK_SIZE) {
+            List<EmployeeDto> chunk = employeeDtos.subList(from, Math.min(from + BATCH_CHUNK_SIZE, employeeDtos.size()));
+            created.addAll(createEmployeeChunk(chunk));
+        }
+        return created;
+    }
+
+    private List<EmployeeDto> createEmployeeChunk(List<EmployeeDto> chunk) {
+        List<String> existingIds = employeeRepository.findExistingEmployeeIds(
+                chunk.stream().map(EmployeeDto::getEmployeeId).collect(Collectors.toList()));
+        if (!existingIds.isEmpty()) {
+            throw new RuntimeException("Employee ID already exists: " + existingIds.get(0));
+        }
+        List<String> existingEmails = employeeRepository.findExistingEmails(
+                chunk.stream().map(EmployeeDto::getEmail).collect(Collectors.toList()));
+        if (!existingEmails.isEmpty()) {
+            throw new RuntimeException("Email already exists: " + existingEmails.get(0));
+        }
+
+        // Resolve every referenced association with one query per type
+        Map<Long, Department> departments = departmentRepository.findAllById(
+                        collectIds(chunk, EmployeeDto::getDepartmentId)).stream()
+                .collect(Collectors.toMap(Department::getId, Function.identity()));
+        Map<Long, Designation> designations = designationRepository.findAllById(
+                        collectIds(chunk, EmployeeDto::getDesignationId)).stream()
+                .collect(Collectors.toMap(Designation::getId, Function.identity()));
+        Map<Long, Employee> managers = employeeRepository.findAllById(
+                        collectIds(chunk, EmployeeDto::getManagerId)).stream()
+                .collect(Collectors.toMap(Employee::getId, Function.identity()));
+
+        List<Employee> employees = new ArrayList<>(chunk.size());
+        for (EmployeeDto dto : chunk) {
+            Employee employee = new Employee();
+            copyScalarFields(employee, dto);
+            if (dto.getDepartmentId() != null) {
+                Department department = departments.get(dto.getDepartmentId());
+                if (department == null) {
+                    throw new RuntimeException("Department not found with id: " + dto.getDepartmentId());
+                }
+                employee.setDepartment(department);
+            }
+            if (dto.getDesignationId() != null) {
+                Designation designation = designations.get(dto.getDesignationId());
+                if (designation == null) {
+                    throw new RuntimeException("Designation not found with id: " + dto.getDesignationId());
+                }
+                employee.setDesignation(designation);
+            }
+            if (dto.getManagerId() != null) {
+                Employee manager = managers.get(dto.getManagerId());
+                if (manager == null) {
+                    throw new RuntimeException("Manager not found with id: " + dto.getManagerId());
+                }
+                employee.setManager(manager);
+            }
+            employees.add(employee);
+        }
+
+        employeeRepository.saveAll(employees);
+        employees.forEach(this::updateReportingPath);
+        entityManager.flush();
+        List<EmployeeDto> created = employees.stream()
+                .map(EmployeeDto::new)
+                .collect(Collectors.toList());
+        // Keep the persistence context bounded across chunks
+        entityManager.clear();
+        return created;
+    }
+
+    private static Set<Long> collectIds(List<EmployeeDto> dtos, Function<EmployeeDto, Long> idGetter) {
+        return dtos.stream()
+                .map(idGetter)
+                .filter(id -> id != null)
+                .collect(Collectors.toSet());
+    }
+
     public EmployeeDto updateEmployee(Long id, EmployeeDto employeeDto) {
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Employee not found with id: " + id));
@@ -94,44 +318,276 @@ public class EmployeeService {
         employeeRepository.deleteById(id);
     }
 
-    public Page<EmployeeDto> searchEmployees(String searchTerm, Pageable pageable) {
-        return employeeRepository.searchEmployees(searchTerm, pageable)
-                .map(EmployeeDto::new);
+    @Transactional(readOnly = true)
+    public Page<EmployeeSummary> searchEmployees(String searchTerm, Pageable pageable) {
+        // Resolve matching ids from the in-memory index, then load only the requested page
+        List<Long> matchingIds = searchIndex.search(searchTerm);
+        int from = (int) Math.min(pageable.getOffset(), matchingIds.size());
+        int to = Math.min(from + pageable.getPageSize(), matchingIds.size());
+        List<Long> pageIds = matchingIds.subList(from, to);
+
+        List<EmployeeSummary> content = pageIds.isEmpty() ? List.of() :
+                employeeRepository.findSummariesByIdIn(pageIds).stream()
+                        .sorted(Comparator.comparing(EmployeeSummary::getId))
+                        .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, matchingIds.size());
     }
 
-    public Page<EmployeeDto> getEmployeesByDepartment(Long departmentId, Pageable pageable) {
-        return employeeRepository.findByDepartmentId(departmentId, pageable)
-                .map(EmployeeDto::new);
+    @Transactional(readOnly = true)
+    public void rebuildSearchIndex() {
+        Map<Long, String[]> documents = new HashMap<>();
+        for (Object[] row : employeeRepository.findSearchIndexRows()) {
+            documents.put((Long) row[0], new String[] {(String) row[1], (String) row[2], (String) row[3], (String) row[4]});
+        }
+        searchIndex.rebuild(documents);
     }
 
-    public Page<EmployeeDto> getEmployeesByDesignation(Long designationId, Pageable pageable) {
-        return employeeRepository.findByDesignationId(designationId, pageable)
-                .map(EmployeeDto::new);
+    @Transactional(readOnly = true)
+    public Page<EmployeeSummary> getEmployeesByDepartment(Long departmentId, Pageable pageable) {
+        return employeeRepository.findSummariesByDepartmentId(departmentId, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<EmployeeSummary> getEmployeesByDesignation(Long designationId, Pageable pageable) {
+        return employeeRepository.findSummariesByDesignationId(designationId, pageable);
     }
 
-    public Page<EmployeeDto> getEmployeesByStatus(Employee.EmployeeStatus status, Pageable pageable) {
-        return employeeRepository.findByStatus(status, pageable)
+    @Transactional(readOnly = true)
+    public Page<EmployeeSummary> getEmployeesByStatus(Employee.EmployeeStatus status, Pageable pageable) {
+        return employeeRepository.findSummariesByStatus(status, pageable);
+    }
+
+    public Page<EmployeeDto> getTransitiveReports(Long employeeId, Pageable pageable) {
+        Employee employee = employeeRepository.findById(employeeId)
+                .orElseThrow(() -> new RuntimeException("Employee not found with id: " + employeeId));
+        if (employee.getReportingPath() == null) {
+            return Page.empty(pageable);
+        }
+        return employeeRepository.findTransitiveReports(employee.getReportingPath() + "%", employeeId, pageable)
                 .map(EmployeeDto::new);
     }
 
+    public long getReportingSubtreeSize(Long employeeId) {
+        Employee employee = employeeRepository.findById(employeeId)
+                .orElseThrow(() -> new RuntimeException("Employee not found with id: " + employeeId));
+        if (employee.getReportingPath() == null) {
+            return 0;
+        }
+        return employeeRepository.countTransitiveReports(employee.getReportingPath() + "%", employeeId);
+    }
+
+    /**
+     * Returns the managers above the employee, from the top of the hierarchy
+     * down to the direct manager, resolved from the path with one id lookup.
+     */
+    public List<EmployeeDto> getManagementChain(Long employeeId) {
+        Employee employee = employeeRepository.findById(employeeId)
+                .orElseThrow(() -> new RuntimeException("Employee not found with id: " + employeeId));
+        if (employee.getReportingPath() == null) {
+            return List.of();
+        }
+
+        List<Long> chainIds = new ArrayList<>();
+        for (String segment : employee.getReportingPath().split("/")) {
+            if (!segment.isEmpty() && !segment.equals(employeeId.toString())) {
+                chainIds.add(Long.valueOf(segment));
+            }
+        }
+        if (chainIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Employee> managers = employeeRepository.findAllWithAssociationsByIdIn(chainIds).stream()
+                .collect(Collectors.toMap(Employee::getId, Function.identity()));
+        return chainIds.stream()
+                .map(managers::get)
+                .filter(manager -> manager != null)
+                .map(EmployeeDto::new)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Fills in reporting paths for rows created before the column existed,
+     * one hierarchy level per bulk update.
+     */
+    public void backfillReportingPaths() {
+        employeeRepository.backfillRootReportingPaths();
+        int updated;
+        do {
+            updated = employeeRepository.backfillNextReportingLevel();
+        } while (updated > 0);
+    }
+
     public List<EmployeeDto> getEmployeesByManager(Long managerId) {
         return employeeRepository.findByManagerId(managerId).stream()
                 .map(EmployeeDto::new)
                 .collect(Collectors.toList());
     }
 
+    public EmployeeCursorPage getAllEmployees(String after, int size, String sortBy, String sortDir, boolean includeTotal) {
+        return scrollEmployees(EmployeeSpecifications.all(), after, size, sortBy, sortDir, includeTotal);
+    }
+
+    /**
+     * Cursor search served by the in-memory index, like the paged search: the
+     * index yields matching ids in ascending order, a page is the slice after
+     * the cursor id and only that slice is fetched. Results are ordered by id.
+     */
+    @Transactional(readOnly = true)
+    public EmployeeCursorPage searchEmployees(String searchTerm, String after, int size, String sortBy, String sortDir, boolean includeTotal) {
+        if (EmployeeSortField.fromProperty(sortBy) != EmployeeSortField.ID) {
+            throw new RuntimeException("Search results can only be sorted by id");
+        }
+        Sort.Direction direction = sortDir.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        ScrollPosition position = decodeCursor(after, EmployeeSortField.ID, direction);
+        Long afterId = position instanceof KeysetScrollPosition keyset && !keyset.isInitial()
+                ? (Long) keyset.getKeys().get("id") : null;
+
+        List<Long> matchingIds = searchIndex.search(searchTerm);
+        Comparator<Long> order = direction == Sort.Direction.ASC ? Comparator.naturalOrder() : Comparator.reverseOrder();
+        if (direction == Sort.Direction.DESC) {
+            matchingIds = new ArrayList<>(matchingIds);
+            Collections.reverse(matchingIds);
+        }
+        int from = 0;
+        if (afterId != null) {
+            int found = Collections.binarySearch(matchingIds, afterId, order);
+            from = found >= 0 ? found + 1 : -found - 1;
+        }
+        int to = Math.min(from + size, matchingIds.size());
+        List<Long> pageIds = matchingIds.subList(from, to);
+
+        Map<Long, EmployeeSummary> employeesById = pageIds.isEmpty() ? Map.of() :
+                employeeRepository.findSummariesByIdIn(pageIds).stream()
+                        .collect(Collectors.toMap(EmployeeSummary::getId, Function.identity()));
+        // Ids removed since the index was read simply drop out of the page
+        List<EmployeeSummary> content = pageIds.stream()
+                .map(employeesById::get)
+                .filter(employee -> employee != null)
+                .collect(Collectors.toList());
+        boolean hasNext = to < matchingIds.size();
+        String nextCursor = hasNext && !pageIds.isEmpty()
+                ? encodeCursor(EmployeeSortField.ID, direction, pageIds.get(pageIds.size() - 1), pageIds.get(pageIds.size() - 1))
+                : null;
+        Long total = includeTotal ? (long) matchingIds.size() : null;
+
+        return new EmployeeCursorPage(content, hasNext, nextCursor, total);
+    }
+
+    public EmployeeCursorPage getEmployeesByDepartment(Long departmentId, String after, int size, String sortBy, String sortDir, boolean includeTotal) {
+        return scrollEmployees(EmployeeSpecifications.inDepartment(departmentId), after, size, sortBy, sortDir, includeTotal);
+    }
+
+    public EmployeeCursorPage getEmployeesByDesignation(Long designationId, String after, int size, String sortBy, String sortDir, boolean includeTotal) {
+        return scrollEmployees(EmployeeSpecifications.hasDesignation(designationId), after, size, sortBy, sortDir, includeTotal);
+    }
+
+    public EmployeeCursorPage getEmployeesByStatus(Employee.EmployeeStatus status, String after, int size, String sortBy, String sortDir, boolean includeTotal) {
+        return scrollEmployees(EmployeeSpecifications.hasStatus(status), after, size, sortBy, sortDir, includeTotal);
+    }
+
+    private EmployeeCursorPage scrollEmployees(Specification<Employee> spec, String after, int size,
+                                               String sortBy, String sortDir, boolean includeTotal) {
+        EmployeeSortField sortField = EmployeeSortField.fromProperty(sortBy);
+        Sort.Direction direction = sortDir.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        ScrollPosition position = decodeCursor(after, sortField, direction);
+        Map<String, Object> keys = position instanceof KeysetScrollPosition keyset ? keyset.getKeys() : Map.of();
+
+        // Same columns and joins as EmployeeRepository.SUMMARY_SELECT, so cursor pages hydrate no entities either
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EmployeeSummary> query = cb.createQuery(EmployeeSummary.class);
+        Root<Employee> e = query.from(Employee.class);
+        Join<Employee, Department> d = e.join("department", JoinType.LEFT);
+        Join<Employee, Designation> g = e.join("designation", JoinType.LEFT);
+        Join<Employee, Employee> m = e.join("manager", JoinType.LEFT);
+        query.select(cb.construct(EmployeeSummary.class,
+                e.get("id"), e.get("employeeId"), e.get("firstName"), e.get("lastName"), e.get("email"),
+                e.get("phoneNumber"), d.get("id"), d.get("name"), g.get("id"), g.get("title"), m.get("id"),
+                cb.concat(cb.concat(m.<String>get("firstName"), " "), m.<String>get("lastName")),
+                e.get("employmentType"), e.get("status"), e.get("dateOfJoining")));
+
+        Predicate filter = spec.toPredicate(e, query, cb);
+        if (!keys.isEmpty()) {
+            filter = cb.and(filter, seekAfter(cb, e, sortField, direction, keys));
+        }
+        // id breaks ties so that the seek predicate is strictly monotonic
+        query.where(filter).orderBy(QueryUtils.toOrders(sortField.toSort(direction), e, cb));
+
+        // One extra row tells whether there is a next page
+        List<EmployeeSummary> rows = entityManager.createQuery(query).setMaxResults(size + 1).getResultList();
+        boolean hasNext = rows.size() > size;
+        List<EmployeeSummary> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext && !content.isEmpty()
+                ? encodeCursor(content.get(content.size() - 1), sortField, direction)
+                : null;
+        Long total = includeTotal ? employeeRepository.count(spec) : null;
+
+        return new EmployeeCursorPage(content, hasNext, nextCursor, total);
+    }
+
+    // key > :key OR (key = :key AND id > :id), with < for descending order
+    private static Predicate seekAfter(CriteriaBuilder cb, Root<Employee> e, EmployeeSortField sortField,
+                                       Sort.Direction direction, Map<String, Object> keys) {
+        Path<Long> id = e.get("id");
+        Long lastId = (Long) keys.get("id");
+        Predicate idAfter = direction == Sort.Direction.ASC ? cb.greaterThan(id, lastId) : cb.lessThan(id, lastId);
+        if (sortField == EmployeeSortField.ID) {
+            return idAfter;
+        }
+        Path<String> key = e.get(sortField.getProperty());
+        String lastKey = (String) keys.get(sortField.getProperty());
+        Predicate keyAfter = direction == Sort.Direction.ASC ? cb.greaterThan(key, lastKey) : cb.lessThan(key, lastKey);
+        return cb.or(keyAfter, cb.and(cb.equal(key, lastKey), idAfter));
+    }
+
+    private String encodeCursor(EmployeeSummary last, EmployeeSortField sortField, Sort.Direction direction) {
+        return encodeCursor(sortField, direction, last.getId(), sortField.valueOf(last));
+    }
+
+    private String encodeCursor(EmployeeSortField sortField, Sort.Direction direction, Long id, Object value) {
+        String raw = sortField.getProperty() + "\n" + direction.name() + "\n" + id + "\n" + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ScrollPosition decodeCursor(String after, EmployeeSortField sortField, Sort.Direction direction) {
+        if (after == null || after.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(after), StandardCharsets.UTF_8).split("\n", 4);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid pagination cursor");
+        }
+        if (parts.length != 4) {
+            throw new RuntimeException("Invalid pagination cursor");
+        }
+        // The sort property is checked against the allowed keys before any query sees it
+        String cursorProperty = parts[0];
+        EmployeeSortField cursorField = Arrays.stream(EmployeeSortField.values())
+                .filter(field -> field.getProperty().equals(cursorProperty))
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("Invalid pagination cursor"));
+        if (cursorField != sortField || !parts[1].equals(direction.name())) {
+            throw new RuntimeException("Pagination cursor does not match the requested sort");
+        }
+        Long id;
+        try {
+            id = Long.valueOf(parts[2]);
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Invalid pagination cursor");
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        if (sortField != EmployeeSortField.ID) {
+            keys.put(sortField.getProperty(), parts[3]);
+        }
+        keys.put("id", id);
+        return ScrollPosition.forward(keys);
+    }
+
     private void updateEmployeeFromDto(Employee employee, EmployeeDto dto) {
-        employee.setEmployeeId(dto.getEmployeeId());
-        employee.setFirstName(dto.getFirstName());
-        employee.setLastName(dto.getLastName());
-        employee.setEmail(dto.getEmail());
-        employee.setPhoneNumber(dto.getPhoneNumber());
-        employee.setEmploymentType(dto.getEmploymentType());
-        employee.setPreviousEmployer(dto.getPreviousEmployer());
-        employee.setDateOfJoining(dto.getDateOfJoining());
-        employee.setDateOfBirth(dto.getDateOfBirth());
-        employee.setAddress(dto.getAddress());
-        employee.setStatus(dto.getStatus() != null ? dto.getStatus() : Employee.EmployeeStatus.ACTIVE);
+        copyScalarFields(employee, dto);
 
         // Set department
         if (dto.getDepartmentId() != null) {
@@ -151,7 +607,61 @@ public class EmployeeService {
         if (dto.getManagerId() != null) {
             Employee manager = employeeRepository.findById(dto.getManagerId())
                     .orElseThrow(() -> new RuntimeException("Manager not found with id: " + dto.getManagerId()));
+            if (employee.getReportingPath() != null && manager.getReportingPath() != null &&
+                manager.getReportingPath().startsWith(employee.getReportingPath())) {
+                throw new RuntimeException("Manager cannot be the employee or one of their reports");
+            }
             employee.setManager(manager);
         }
+
+        // Existing employees move their whole reporting subtree with them
+        if (employee.getId() != null) {
+            updateReportingPath(employee);
+        }
+    }
+
+    private void updateReportingPath(Employee employee) {
+        String parentPath = employee.getManager() != null && employee.getManager().getReportingPath() != null
+                ? employee.getManager().getReportingPath() : "/";
+        String newPath = parentPath + employee.getId() + "/";
+        String oldPath = employee.getReportingPath();
+        if (newPath.equals(oldPath)) {
+            return;
+        }
+        employee.setReportingPath(newPath);
+        if (oldPath != null) {
+            // The employee's own row is flushed with its new path first, so only its reports still
+            // match the old prefix. The update clears the persistence context: callers save or map
+            // the now-detached employee, which merge and lazy loading handle within the transaction.
+            employeeRepository.rebaseReportingPaths(oldPath + "%", newPath, oldPath.length(), LocalDateTime.now());
+        }
+    }
+
+    private void copyScalarFields(Employee employee, EmployeeDto dto) {
+        employee.setEmployeeId(dto.getEmployeeId());
+        employee.setFirstName(dto.getFirstName());
+        employee.setLastName(dto.getLastName());
+        employee.setEmail(dto.getEmail());
+        employee.setPhoneNumber(dto.getPhoneNumber());
+        employee.setEmploymentType(dto.getEmploymentType());
+        employee.setPreviousEmployer(dto.getPreviousEmployer());
+        employee.setDateOfJoining(dto.getDateOfJoining());
+        employee.setDateOfBirth(dto.getDateOfBirth());
+        employee.setAddress(dto.getAddress());
+        employee.setStatus(dto.getStatus() != null ? dto.getStatus() : Employee.EmployeeStatus.ACTIVE);
+        // Only a leaving date the client sends is stored; it is never derived from the status
+        if (dto.getDateOfLeaving() != null) {
+            if (employee.getStatus() != Employee.EmployeeStatus.TERMINATED) {
+                throw new RuntimeException("Date of leaving is only allowed for terminated employees");
+            }
+            if (employee.getDateOfJoining() != null && dto.getDateOfLeaving().isBefore(employee.getDateOfJoining())) {
+                throw new RuntimeException("Date of leaving cannot be before date of joining");
+            }
+            employee.setDateOfLeaving(dto.getDateOfLeaving());
+        }
+    }
+
+    private static String versionOrNone(Long version) {
+        return version != null ? version.toString() : "none";
     }
 }
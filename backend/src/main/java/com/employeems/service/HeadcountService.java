@@ -0,0 +1,61 @@
+package com.employeems.service;
+
+import com.employeems.repository.EmployeeRepository;
+import com.employeems.repository.HeadcountRow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Bulk headcount lookups backed by GROUP BY queries, so department DTOs never
+ * initialize Department.employees. Explicitly requested ids without employees
+ * map to 0.
+ */
+@Service
+@Transactional(readOnly = true)
+public class HeadcountService {
+
+    // Keeps IN lists well below database parameter limits
+    private static final int MAX_IDS_PER_QUERY = 1000;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    public Map<Long, Long> countAllByDepartment() {
+        return toMap(employeeRepository.countGroupedByDepartment(), null);
+    }
+
+    public Map<Long, Long> countByDepartment(Collection<Long> departmentIds) {
+        return countInChunks(departmentIds, employeeRepository::countGroupedByDepartment);
+    }
+
+    private Map<Long, Long> countInChunks(Collection<Long> ids, Function<Collection<Long>, List<HeadcountRow>> query) {
+        Map<Long, Long> counts = new HashMap<>();
+        List<Long> idList = new ArrayList<>(ids);
+        for (int from = 0; from < idList.size(); from += MAX_IDS_PER_QUERY) {
+            List<Long> chunk = idList.subList(from, Math.min(from + MAX_IDS_PER_QUERY, idList.size()));
+            counts.putAll(toMap(query.apply(chunk), chunk));
+        }
+        return counts;
+    }
+
+    private static Map<Long, Long> toMap(List<HeadcountRow> rows, Collection<Long> requestedIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (requestedIds != null) {
+            for (Long id : requestedIds) {
+                counts.put(id, 0L);
+            }
+        }
+        for (HeadcountRow row : rows) {
+            counts.put(row.getGroupId(), row.getHeadcount());
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,85 @@
+package com.employeems.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind buffer for User.lastLoginAt. Logins record a timestamp in
+ * memory, where repeats for the same user coalesce to the latest value. A
+ * scheduled task writes the buffered values with one JDBC batch update.
+ * Pending values are flushed on shutdown.
+ */
+@Component
+public class LastLoginRecorder {
+
+    private static final Logger logger = LoggerFactory.getLogger(LastLoginRecorder.class);
+
+    private static final String UPDATE_SQL = "UPDATE users SET last_login_at = ? WHERE id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    private final AtomicLong flushedRows = new AtomicLong();
+
+    private volatile long lastFlushNanos;
+
+    public void record(Long userId, LocalDateTime loginAt) {
+        pending.merge(userId, loginAt, (current, next) -> next.isAfter(current) ? next : current);
+    }
+
+    @Scheduled(fixedDelayString = "${app.auth.last-login.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        List<Object[]> batch = new ArrayList<>(pending.size());
+        for (Long userId : pending.keySet()) {
+            // A login racing with this removal simply lands in the next flush
+            LocalDateTime loginAt = pending.remove(userId);
+            if (loginAt != null) {
+                batch.add(new Object[] { Timestamp.valueOf(loginAt), userId });
+            }
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+            flushedRows.addAndGet(batch.size());
+        } catch (RuntimeException e) {
+            // Put the values back so the next flush retries them, unless newer logins replaced them
+            for (Object[] row : batch) {
+                record((Long) row[1], ((Timestamp) row[0]).toLocalDateTime());
+            }
+            logger.warn("Failed to flush {} last-login updates", batch.size(), e);
+        } finally {
+            lastFlushNanos = System.nanoTime() - start;
+        }
+    }
+
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+
+    public int getQueueDepth() { return pending.size(); }
+
+    public long getFlushedRowCount() { return flushedRows.get(); }
+
+    public long getLastFlushLatencyNanos() { return lastFlushNanos; }
+}
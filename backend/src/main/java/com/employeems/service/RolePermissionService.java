@@ -2,8 +2,11 @@ package com.employeems.service;
 
 import com.employeems.entity.Permission;
 import com.employeems.entity.Role;
+import com.employeems.entity.User;
 import com.employeems.repository.PermissionRepository;
 import com.employeems.repository.RoleRepository;
+import com.employeems.repository.UserRepository;
+import com.employeems.security.PermissionMaskRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,6 +25,12 @@ public class RolePermissionService {
     @Autowired
     private PermissionRepository permissionRepository;
 
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PermissionMaskRegistry permissionMaskRegistry;
+
     public void initializeDefaultRolesAndPermissions() {
         // Create permissions if they don't exist
         createPermissionIfNotExists("EMPLOYEE_READ", "Read Employee Data", Permission.PermissionCategory.EMPLOYEE_MANAGEMENT);
@@ -57,6 +66,9 @@ public class RolePermissionService {
                    "SYSTEM_ADMIN", "REPORTS_READ", "AUDIT_READ"));
         
         createRoleWithPermissions("GUEST", "GUEST", "Guest Role", Set.of());
+
+        // Compile permission bitsets for every role, including pre-existing ones
+        permissionMaskRegistry.rebuild();
     }
 
     private void createPermissionIfNotExists(String code, String name, Permission.PermissionCategory category) {
@@ -80,10 +92,19 @@ public class RolePermissionService {
             }
             role.setPermissions(permissions);
             
-            roleRepository.save(role);
+            role = roleRepository.save(role);
+            permissionMaskRegistry.registerRole(role);
         }
     }
 
+    public User assignRole(Long userId, String roleCode) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
+        user.setRole(roleRepository.findByCode(roleCode)
+                .orElseThrow(() -> new RuntimeException("Role not found: " + roleCode)));
+        return userRepository.save(user);
+    }
+
     public List<Role> getAllRoles() {
         return roleRepository.findAll();
     }
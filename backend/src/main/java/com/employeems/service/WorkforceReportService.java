@@ -0,0 +1,155 @@
+package com.employeems.service;
+
+import com.employeems.analytics.WorkforceFilter;
+import com.employeems.analytics.WorkforceRecord;
+import com.employeems.analytics.WorkforceSnapshot;
+import com.employeems.dto.AttritionPoint;
+import com.employeems.dto.DepartmentRollup;
+import com.employeems.dto.DistributionBucket;
+import com.employeems.dto.HeadcountPoint;
+import com.employeems.entity.Employee;
+import com.employeems.repository.DepartmentRepository;
+import com.employeems.repository.EmployeeRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Workforce reports answered from the in-memory WorkforceSnapshot; only
+ * rebuildSnapshot reads the employee and department tables.
+ */
+@Service
+@Timed("employeems.service")
+public class WorkforceReportService {
+
+    // Upper bound on months per time-series report
+    private static final int MAX_REPORT_MONTHS = 600;
+
+    private static final int[] TENURE_BOUNDS_YEARS = {1, 2, 5, 10};
+
+    private static final int[] AGE_BOUNDS_YEARS = {25, 35, 45, 55};
+
+    @Autowired
+    private WorkforceSnapshot snapshot;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    public List<HeadcountPoint> getHeadcountOverTime(YearMonth from, YearMonth to, WorkforceFilter filter) {
+        List<YearMonth> months = monthsBetween(from, to);
+        int[] days = new int[months.size()];
+        for (int k = 0; k < days.length; k++) {
+            days[k] = (int) months.get(k).atEndOfMonth().toEpochDay();
+        }
+        long[] headcount = snapshot.headcountOn(days, filter);
+
+        List<HeadcountPoint> points = new ArrayList<>(months.size());
+        for (int k = 0; k < days.length; k++) {
+            points.add(new HeadcountPoint(months.get(k), months.get(k).atEndOfMonth(), headcount[k]));
+        }
+        return points;
+    }
+
+    public List<AttritionPoint> getAttritionByMonth(YearMonth from, YearMonth to, WorkforceFilter filter) {
+        List<YearMonth> months = monthsBetween(from, to);
+        // First and last day of every month, ascending, so both headcounts come from one scan
+        int[] days = new int[months.size() * 2];
+        int[] boundaries = new int[months.size() + 1];
+        for (int k = 0; k < months.size(); k++) {
+            days[2 * k] = (int) months.get(k).atDay(1).toEpochDay();
+            days[2 * k + 1] = (int) months.get(k).atEndOfMonth().toEpochDay();
+            boundaries[k] = days[2 * k];
+        }
+        boundaries[months.size()] = (int) months.get(months.size() - 1).plusMonths(1).atDay(1).toEpochDay();
+        long[] headcount = snapshot.headcountOn(days, filter);
+        long[] leavers = snapshot.leaversBetween(boundaries, filter);
+
+        List<AttritionPoint> points = new ArrayList<>(months.size());
+        for (int k = 0; k < months.size(); k++) {
+            long start = headcount[2 * k];
+            long end = headcount[2 * k + 1];
+            double average = (start + end) / 2.0;
+            double rate = average > 0 ? leavers[k] / average : 0.0;
+            points.add(new AttritionPoint(months.get(k), leavers[k], start, end, rate));
+        }
+        return points;
+    }
+
+    public List<DistributionBucket> getTenureDistribution(LocalDate asOf, WorkforceFilter filter) {
+        return distribution(WorkforceSnapshot.DateColumn.JOINING, TENURE_BOUNDS_YEARS, asOf, filter);
+    }
+
+    public List<DistributionBucket> getAgeDistribution(LocalDate asOf, WorkforceFilter filter) {
+        return distribution(WorkforceSnapshot.DateColumn.BIRTH, AGE_BOUNDS_YEARS, asOf, filter);
+    }
+
+    public List<DepartmentRollup> getDepartmentRollup(LocalDate asOf) {
+        LocalDate date = asOf != null ? asOf : LocalDate.now();
+        return snapshot.headcountByDepartment((int) date.toEpochDay()).stream()
+                .map(row -> new DepartmentRollup(row.departmentId(), row.parentDepartmentId(),
+                        row.headcount(), row.totalHeadcount()))
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public void rebuildSnapshot() {
+        Map<Long, Long> departmentParents = new HashMap<>();
+        for (Object[] row : departmentRepository.findHierarchyRows()) {
+            departmentParents.put((Long) row[0], (Long) row[1]);
+        }
+        List<WorkforceRecord> records = new ArrayList<>();
+        for (Object[] row : employeeRepository.findWorkforceRows()) {
+            records.add(new WorkforceRecord((Long) row[0], (Long) row[1], (Long) row[2],
+                    (Employee.EmployeeStatus) row[3], (Employee.EmploymentType) row[4],
+                    (LocalDate) row[5], (LocalDate) row[6], (LocalDate) row[7]));
+        }
+        snapshot.replaceAll(records, departmentParents);
+    }
+
+    private List<DistributionBucket> distribution(WorkforceSnapshot.DateColumn column, int[] boundsYears,
+                                                  LocalDate asOf, WorkforceFilter filter) {
+        LocalDate date = asOf != null ? asOf : LocalDate.now();
+        // At least N years since the date <=> the date is on or before asOf minus N years
+        int[] thresholds = new int[boundsYears.length];
+        for (int k = 0; k < boundsYears.length; k++) {
+            thresholds[k] = (int) date.minusYears(boundsYears[k]).toEpochDay();
+        }
+        long[] counts = snapshot.distribution(column, (int) date.toEpochDay(), thresholds, filter);
+
+        List<DistributionBucket> buckets = new ArrayList<>(counts.length);
+        for (int k = 0; k < counts.length; k++) {
+            int min = k == 0 ? 0 : boundsYears[k - 1];
+            Integer max = k < boundsYears.length ? boundsYears[k] : null;
+            buckets.add(new DistributionBucket(min, max, counts[k]));
+        }
+        return buckets;
+    }
+
+    private static List<YearMonth> monthsBetween(YearMonth from, YearMonth to) {
+        YearMonth end = to != null ? to : YearMonth.now();
+        YearMonth start = from != null ? from : end.minusMonths(11);
+        if (start.isAfter(end)) {
+            throw new RuntimeException("Report start month must not be after the end month");
+        }
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = start; !month.isAfter(end); month = month.plusMonths(1)) {
+            if (months.size() == MAX_REPORT_MONTHS) {
+                throw new RuntimeException("Report range exceeds the maximum of " + MAX_REPORT_MONTHS + " months");
+            }
+            months.add(month);
+        }
+        return months;
+    }
+}
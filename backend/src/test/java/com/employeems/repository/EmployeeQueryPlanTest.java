@@ -0,0 +1,227 @@
+package com.employeems.repository;
+
+import com.employeems.analytics.WorkforceSnapshot;
+import com.employeems.analytics.WorkforceSnapshotListener;
+import com.employeems.entity.Department;
+import com.employeems.entity.Designation;
+import com.employeems.entity.Employee;
+import com.employeems.facet.EmployeeFacetCounters;
+import com.employeems.facet.EmployeeFacetListener;
+import com.employeems.search.EmployeeSearchIndexListener;
+import com.employeems.search.NGramEmployeeSearchIndex;
+import com.employeems.service.EmployeeService;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs each employee list query and checks H2's EXPLAIN plan for it: sort keys
+ * must be read in index order, filters must seek an index on the filtered
+ * column, and reporting-line queries must range-scan the path index. H2
+ * neither scans an index backwards nor reads ORDER BY id from a (filter, id)
+ * index after an equality seek, so on H2 descending pages and filtered pages
+ * still sort; only ascending order and the seek are asserted.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.employeems.repository.EmployeeQueryPlanTest$RecordingStatementInspector")
+@Import({EmployeeService.class, NGramEmployeeSearchIndex.class, EmployeeSearchIndexListener.class,
+        EmployeeFacetCounters.class, EmployeeFacetListener.class, WorkforceSnapshot.class,
+        WorkforceSnapshotListener.class})
+class EmployeeQueryPlanTest {
+
+    private static final String INDEX_SORTED = "/* index sorted */";
+
+    private static final Pattern EMPLOYEES_ACCESS =
+            Pattern.compile("^FROM \"PUBLIC\"\\.\"EMPLOYEES\" \"E1_0\"\n\\s*/\\* (.*?)(?: \\*/)?$", Pattern.MULTILINE);
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Department department;
+
+    private Designation designation;
+
+    private Employee manager;
+
+    @BeforeEach
+    void seed() {
+        department = entityManager.persist(new Department("Department", "DEP"));
+        designation = entityManager.persist(new Designation("Designation", "DES", 1));
+        manager = entityManager.persist(employee(0, null));
+        for (int i = 1; i <= 30; i++) {
+            entityManager.persist(employee(i, manager));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void everySortFieldIsReadInIndexOrder() {
+        for (EmployeeSortField field : EmployeeSortField.values()) {
+            List<String> plans = plansOf(() -> employeeRepository.findAllSummaries(
+                    PageRequest.of(1, 5, field.toSort(Sort.Direction.ASC))));
+
+            assertThat(accessPath(plans.get(0))).as(field.name()).matches(indexFor(field));
+            assertThat(plans.get(0)).as(field.name()).contains(INDEX_SORTED);
+        }
+    }
+
+    @Test
+    void cursorPagesAreReadInIndexOrder() {
+        for (EmployeeSortField field : EmployeeSortField.values()) {
+            String cursor = employeeService.getAllEmployees("", 5, field.getProperty(), "asc", false).getNextCursor();
+
+            for (String after : List.of("", cursor)) {
+                List<String> plans = plansOf(() -> employeeService.getAllEmployees(after, 5, field.getProperty(), "asc", false));
+
+                assertThat(accessPath(plans.get(0))).as("%s after '%s'", field, after).matches(indexFor(field));
+                assertThat(plans.get(0)).as("%s after '%s'", field, after).contains(INDEX_SORTED);
+            }
+        }
+    }
+
+    @Test
+    void departmentPagesSeekTheDepartmentIndex() {
+        assertSeeks("DEPARTMENT_ID", () -> employeeRepository.findSummariesByDepartmentId(
+                department.getId(), PageRequest.of(1, 5, Sort.by("id"))));
+        assertSeeks("DEPARTMENT_ID", () -> employeeService.getEmployeesByDepartment(
+                department.getId(), "", 5, "id", "asc", false));
+    }
+
+    @Test
+    void designationPagesSeekTheDesignationIndex() {
+        assertSeeks("DESIGNATION_ID", () -> employeeRepository.findSummariesByDesignationId(
+                designation.getId(), PageRequest.of(1, 5, Sort.by("id"))));
+        assertSeeks("DESIGNATION_ID", () -> employeeService.getEmployeesByDesignation(
+                designation.getId(), "", 5, "id", "asc", false));
+    }
+
+    @Test
+    void statusPagesSeekTheStatusIndex() {
+        assertSeeks("STATUS", () -> employeeRepository.findSummariesByStatus(
+                Employee.EmployeeStatus.ACTIVE, PageRequest.of(1, 5, Sort.by("id"))));
+        assertSeeks("STATUS", () -> employeeService.getEmployeesByStatus(
+                Employee.EmployeeStatus.ACTIVE, "", 5, "id", "asc", false));
+    }
+
+    @Test
+    void directReportsSeekTheManagerIndex() {
+        assertSeeks("MANAGER_ID", () -> employeeRepository.findByManagerId(manager.getId()));
+    }
+
+    @Test
+    void reportingLinesScanTheReportingPathPrefix() {
+        String path = "/" + manager.getId() + "/";
+        String rangeScan = "/* PUBLIC.IDX_EMPLOYEES_REPORTING_PATH: REPORTING_PATH >= '" + path + "'";
+
+        // Parameters are bound in statement order; the prefix must be a value, not NULL, to be planned as a range
+        assertThat(plansOf(() -> employeeRepository.findTransitiveReports(path + "%", manager.getId(),
+                PageRequest.of(1, 5, Sort.by("id"))), path + "%", manager.getId(), 5, 5))
+                .hasSize(2).allSatisfy(plan -> assertThat(plan).contains(rangeScan));
+        assertThat(plansOf(() -> employeeRepository.countTransitiveReports(path + "%", manager.getId()),
+                path + "%", manager.getId()))
+                .singleElement().satisfies(plan -> assertThat(plan).contains(rangeScan));
+
+        LocalDateTime now = LocalDateTime.now();
+        assertThat(plansOf(() -> employeeRepository.rebaseReportingPaths(path + "%", "/0/", path.length(), now),
+                "/0/", path.length(), now, path + "%"))
+                .singleElement().satisfies(plan -> assertThat(plan).contains(rangeScan));
+    }
+
+    // Every statement the query issues (content and, for pages, count) must seek the column
+    private void assertSeeks(String column, Runnable query) {
+        List<String> plans = plansOf(query);
+
+        assertThat(plans).isNotEmpty().allSatisfy(plan -> assertThat(accessPath(plan))
+                .matches("PUBLIC\\.\\w+: " + column + " = \\?\\d+"));
+    }
+
+    // The index, optionally followed by the seek condition of a cursor page
+    private static String indexFor(EmployeeSortField field) {
+        String index = field == EmployeeSortField.ID ? "PRIMARY_KEY_\\w+" : "IDX_EMPLOYEES_" + field.name();
+        return "PUBLIC\\." + index + "(: .*)?";
+    }
+
+    // How H2 reads the employees table itself, e.g. "PUBLIC.IDX_EMPLOYEES_STATUS: STATUS = ?1"
+    private static String accessPath(String plan) {
+        Matcher matcher = EMPLOYEES_ACCESS.matcher(plan);
+        assertThat(matcher.find()).as("employees access path in %s", plan).isTrue();
+        return matcher.group(1);
+    }
+
+    // Parameters without a value are bound to NULL, which is enough to plan equality seeks and sorts
+    private List<String> plansOf(Runnable query, Object... parameters) {
+        RecordingStatementInspector.STATEMENTS.clear();
+        query.run();
+        List<String> plans = new ArrayList<>();
+        for (String sql : RecordingStatementInspector.STATEMENTS) {
+            plans.add(explain(sql, parameters));
+        }
+        return plans;
+    }
+
+    private String explain(String sql, Object... values) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+                int parameters = explain.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameters; i++) {
+                    explain.setObject(i, i <= values.length ? values[i - 1] : null);
+                }
+                try (ResultSet plan = explain.executeQuery()) {
+                    plan.next();
+                    return plan.getString(1);
+                }
+            }
+        });
+    }
+
+    private Employee employee(int i, Employee manager) {
+        Employee employee = new Employee(String.format("EMP%04d", i), "First" + i, "Last" + i,
+                "employee" + i + "@example.com");
+        employee.setDepartment(department);
+        employee.setDesignation(designation);
+        employee.setManager(manager);
+        employee.setDateOfJoining(LocalDate.of(2020, 1, 1));
+        return employee;
+    }
+
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.employeems.repository;
+
+import com.employeems.analytics.WorkforceSnapshot;
+import com.employeems.analytics.WorkforceSnapshotListener;
+import com.employeems.entity.Employee;
+import com.employeems.facet.EmployeeFacetCounters;
+import com.employeems.facet.EmployeeFacetListener;
+import com.employeems.search.EmployeeSearchIndexListener;
+import com.employeems.search.NGramEmployeeSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Moving a reporting subtree is a bulk update, which bypasses optimistic
+ * locking and the persistence context; it must still leave versions (and so
+ * ETags) changed and no stale managed employees behind.
+ */
+@DataJpaTest
+@Import({NGramEmployeeSearchIndex.class, EmployeeSearchIndexListener.class, EmployeeFacetCounters.class,
+        EmployeeFacetListener.class, WorkforceSnapshot.class, WorkforceSnapshotListener.class})
+class EmployeeReportingPathTest {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Employee report;
+
+    private Employee indirectReport;
+
+    @BeforeEach
+    void seed() {
+        Employee manager = entityManager.persist(employee(1, null));
+        manager.setReportingPath("/" + manager.getId() + "/");
+        report = entityManager.persist(employee(2, manager));
+        report.setReportingPath(manager.getReportingPath() + report.getId() + "/");
+        indirectReport = entityManager.persist(employee(3, report));
+        indirectReport.setReportingPath(report.getReportingPath() + indirectReport.getId() + "/");
+        entityManager.flush();
+    }
+
+    @Test
+    void rebaseRewritesThePrefixAndBumpsVersions() {
+        String oldPath = report.getReportingPath();
+        Long reportVersion = report.getVersion();
+        Long indirectVersion = indirectReport.getVersion();
+        LocalDateTime movedAt = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+        int updated = employeeRepository.rebaseReportingPaths(oldPath + "%", "/9/", oldPath.length(), movedAt);
+
+        assertThat(updated).isEqualTo(2);
+        Employee reloaded = employeeRepository.findById(indirectReport.getId()).orElseThrow();
+        assertThat(reloaded).isNotSameAs(indirectReport);
+        assertThat(reloaded.getReportingPath()).isEqualTo("/9/" + indirectReport.getId() + "/");
+        assertThat(reloaded.getVersion()).isEqualTo(indirectVersion + 1);
+        assertThat(reloaded.getUpdatedAt()).isEqualTo(movedAt);
+        assertThat(employeeRepository.findById(report.getId()).orElseThrow().getVersion()).isEqualTo(reportVersion + 1);
+    }
+
+    @Test
+    void rebaseFlushesPendingChangesFirst() {
+        String oldPath = report.getReportingPath();
+        indirectReport.setFirstName("Renamed");
+
+        employeeRepository.rebaseReportingPaths(oldPath + "%", "/9/", oldPath.length(), LocalDateTime.now());
+
+        Employee reloaded = employeeRepository.findById(indirectReport.getId()).orElseThrow();
+        assertThat(reloaded.getFirstName()).isEqualTo("Renamed");
+        assertThat(reloaded.getReportingPath()).startsWith("/9/");
+    }
+
+    private static Employee employee(int n, Employee manager) {
+        Employee employee = new Employee(String.format("EMP%04d", n), "First" + n, "Last" + n, "employee" + n + "@example.com");
+        employee.setManager(manager);
+        return employee;
+    }
+}
@@ -0,0 +1,135 @@
+package com.employeems.repository;
+
+import com.employeems.analytics.WorkforceSnapshot;
+import com.employeems.analytics.WorkforceSnapshotListener;
+import com.employeems.dto.EmployeeSummary;
+import com.employeems.entity.Department;
+import com.employeems.entity.Designation;
+import com.employeems.entity.Employee;
+import com.employeems.facet.EmployeeFacetCounters;
+import com.employeems.facet.EmployeeFacetListener;
+import com.employeems.search.EmployeeSearchIndexListener;
+import com.employeems.search.NGramEmployeeSearchIndex;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Every summary page must cost exactly two statements, content and count,
+ * however many departments, designations and managers its rows reference.
+ */
+@DataJpaTest
+@Import({NGramEmployeeSearchIndex.class, EmployeeSearchIndexListener.class, EmployeeFacetCounters.class,
+        EmployeeFacetListener.class, WorkforceSnapshot.class, WorkforceSnapshotListener.class})
+class EmployeeSummaryStatementCountTest {
+
+    private static final int EMPLOYEES = 30;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private Department department;
+
+    private Designation designation;
+
+    @BeforeEach
+    void seed() {
+        Department[] departments = new Department[3];
+        Designation[] designations = new Designation[3];
+        for (int i = 0; i < 3; i++) {
+            departments[i] = entityManager.persist(new Department("Department " + i, "DEP" + i));
+            designations[i] = entityManager.persist(new Designation("Designation " + i, "DES" + i, i + 1));
+        }
+        Employee manager = entityManager.persist(employee(0, departments[0], designations[0], null));
+        for (int i = 1; i <= EMPLOYEES; i++) {
+            entityManager.persist(employee(i, departments[i % 3], designations[i % 3], manager));
+        }
+        department = departments[1];
+        designation = designations[2];
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void allSummariesPageUsesTwoStatements() {
+        Pageable pageable = PageRequest.of(1, 10, EmployeeSortField.LAST_NAME.toSort(Sort.Direction.ASC));
+        Page<EmployeeSummary> page = countStatements(() -> employeeRepository.findAllSummaries(pageable));
+
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.getTotalElements()).isEqualTo(EMPLOYEES + 1);
+        assertThat(page.getContent()).allSatisfy(summary -> {
+            assertThat(summary.getDepartmentName()).isNotNull();
+            assertThat(summary.getDesignationTitle()).isNotNull();
+            assertThat(summary.getManagerName()).isEqualTo("First0 Last0");
+        });
+    }
+
+    @Test
+    void departmentSummariesPageUsesTwoStatements() {
+        Page<EmployeeSummary> page = countStatements(() ->
+                employeeRepository.findSummariesByDepartmentId(department.getId(), PageRequest.of(0, 5, Sort.by("id"))));
+
+        assertThat(page.getContent()).hasSize(5)
+                .allSatisfy(summary -> assertThat(summary.getDepartmentId()).isEqualTo(department.getId()));
+        assertThat(page.getTotalElements()).isEqualTo(10);
+    }
+
+    @Test
+    void designationSummariesPageUsesTwoStatements() {
+        Page<EmployeeSummary> page = countStatements(() ->
+                employeeRepository.findSummariesByDesignationId(designation.getId(), PageRequest.of(0, 5, Sort.by("id"))));
+
+        assertThat(page.getContent()).hasSize(5)
+                .allSatisfy(summary -> assertThat(summary.getDesignationId()).isEqualTo(designation.getId()));
+        assertThat(page.getTotalElements()).isEqualTo(10);
+    }
+
+    @Test
+    void statusSummariesPageUsesTwoStatements() {
+        Page<EmployeeSummary> page = countStatements(() ->
+                employeeRepository.findSummariesByStatus(Employee.EmployeeStatus.ACTIVE, PageRequest.of(2, 10, Sort.by("id"))));
+
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.getTotalElements()).isEqualTo(EMPLOYEES + 1);
+    }
+
+    private <T> T countStatements(Supplier<T> query) {
+        statistics.clear();
+        T result = query.get();
+        assertThat(statistics.getPrepareStatementCount()).as("statements per page").isEqualTo(2);
+        return result;
+    }
+
+    private static Employee employee(int n, Department department, Designation designation, Employee manager) {
+        Employee employee = new Employee(String.format("EMP%04d", n), "First" + n, "Last" + n, "employee" + n + "@example.com");
+        employee.setDepartment(department);
+        employee.setDesignation(designation);
+        employee.setManager(manager);
+        return employee;
+    }
+}
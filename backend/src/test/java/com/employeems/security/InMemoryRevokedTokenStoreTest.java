@@ -0,0 +1,70 @@
+package com.employeems.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Refresh rotation relies on revoke reporting exactly one winner per token id.
+ */
+class InMemoryRevokedTokenStoreTest {
+
+    private final InMemoryRevokedTokenStore store = new InMemoryRevokedTokenStore(1000, 0.01);
+
+    @Test
+    void onlyTheFirstRevocationWins() {
+        Instant expiresAt = Instant.now().plusSeconds(60);
+
+        assertThat(store.revoke("jti", expiresAt)).isTrue();
+        assertThat(store.revoke("jti", expiresAt)).isFalse();
+        assertThat(store.isRevoked("jti")).isTrue();
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentRevocationsHaveOneWinner() throws Exception {
+        int callers = 16;
+        Instant expiresAt = Instant.now().plusSeconds(60);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            for (int round = 0; round < 100; round++) {
+                String tokenId = "jti-" + round;
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Boolean>> results = new ArrayList<>();
+                for (int i = 0; i < callers; i++) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        return store.revoke(tokenId, expiresAt);
+                    }));
+                }
+                start.countDown();
+
+                int winners = 0;
+                for (Future<Boolean> result : results) {
+                    winners += result.get() ? 1 : 0;
+                }
+                assertThat(winners).as(tokenId).isEqualTo(1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void purgedIdsCanBeRevokedAgain() {
+        Instant now = Instant.now();
+        store.revoke("jti", now.minusSeconds(1));
+
+        assertThat(store.purgeExpired(now)).isEqualTo(1);
+        assertThat(store.isRevoked("jti")).isFalse();
+        assertThat(store.revoke("jti", now.plusSeconds(60))).isTrue();
+    }
+}
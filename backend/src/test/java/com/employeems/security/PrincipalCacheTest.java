@@ -0,0 +1,70 @@
+package com.employeems.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A principal loaded before an invalidation must not be cached after it.
+ */
+class PrincipalCacheTest {
+
+    private final PrincipalCache cache = new PrincipalCache(10, 300);
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void cachesLoadedPrincipals() {
+        cache.getOrLoad("alice", this::load);
+        cache.getOrLoad("alice", this::load);
+
+        assertThat(loads).hasValue(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidateDuringLoadDropsTheLoadedPrincipal() {
+        UserDetails loaded = cache.getOrLoad("alice", username -> {
+            UserDetails stale = load(username);
+            cache.invalidate(username);
+            return stale;
+        });
+
+        assertThat(loaded).isNotNull();
+        assertThat(cache.size()).isZero();
+        cache.getOrLoad("alice", this::load);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void invalidateAllDuringLoadDropsTheLoadedPrincipal() {
+        cache.getOrLoad("alice", username -> {
+            UserDetails stale = load(username);
+            cache.invalidateAll();
+            return stale;
+        });
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void failedLoadLeavesNothingBehind() {
+        assertThatThrownBy(() -> cache.getOrLoad("alice", username -> {
+            throw new IllegalStateException("lookup failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.size()).isZero();
+        cache.getOrLoad("alice", this::load);
+        assertThat(loads).hasValue(1);
+    }
+
+    private UserDetails load(String username) {
+        loads.incrementAndGet();
+        return User.withUsername(username).password("secret").authorities("ROLE_EMPLOYEE").build();
+    }
+}
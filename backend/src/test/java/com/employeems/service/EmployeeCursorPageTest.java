@@ -0,0 +1,129 @@
+package com.employeems.service;
+
+import com.employeems.analytics.WorkforceSnapshot;
+import com.employeems.analytics.WorkforceSnapshotListener;
+import com.employeems.dto.EmployeeCursorPage;
+import com.employeems.dto.EmployeeSummary;
+import com.employeems.entity.Department;
+import com.employeems.entity.Designation;
+import com.employeems.entity.Employee;
+import com.employeems.facet.EmployeeFacetCounters;
+import com.employeems.facet.EmployeeFacetListener;
+import com.employeems.repository.EmployeeSortField;
+import com.employeems.search.EmployeeSearchIndexListener;
+import com.employeems.search.NGramEmployeeSearchIndex;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Cursor pages return the same EmployeeSummary rows as offset pages, one
+ * statement per page, and walking the cursors visits every employee once in
+ * sort order. Duplicate last names make the id tie-break matter.
+ */
+@DataJpaTest
+@Import({EmployeeService.class, NGramEmployeeSearchIndex.class, EmployeeSearchIndexListener.class,
+        EmployeeFacetCounters.class, EmployeeFacetListener.class, WorkforceSnapshot.class,
+        WorkforceSnapshotListener.class})
+class EmployeeCursorPageTest {
+
+    private static final int EMPLOYEES = 23;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void seed() {
+        Department department = entityManager.persist(new Department("Department", "DEP"));
+        Designation designation = entityManager.persist(new Designation("Designation", "DES", 1));
+        Employee manager = null;
+        for (int i = 0; i < EMPLOYEES; i++) {
+            Employee employee = new Employee(String.format("EMP%04d", (i * 7) % EMPLOYEES), "First" + (i % 5),
+                    "Last" + (i % 3), "employee" + i + "@example.com");
+            employee.setDepartment(department);
+            employee.setDesignation(designation);
+            employee.setManager(manager);
+            manager = entityManager.persist(employee);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void walkingTheCursorsVisitsEveryEmployeeInOrder() {
+        for (EmployeeSortField field : EmployeeSortField.values()) {
+            for (String direction : List.of("asc", "desc")) {
+                List<EmployeeSummary> visited = walk(field, direction);
+
+                Comparator<EmployeeSummary> order = Comparator.comparing(
+                        (EmployeeSummary summary) -> (Comparable<Object>) field.valueOf(summary))
+                        .thenComparing(EmployeeSummary::getId);
+                List<EmployeeSummary> expected = new ArrayList<>(visited);
+                expected.sort(direction.equals("asc") ? order : order.reversed());
+                assertThat(visited).as("%s %s", field, direction).hasSize(EMPLOYEES)
+                        .extracting(EmployeeSummary::getId).doesNotHaveDuplicates()
+                        .containsExactlyElementsOf(expected.stream().map(EmployeeSummary::getId).toList());
+            }
+        }
+    }
+
+    @Test
+    void cursorPagesAreSummaries() {
+        EmployeeCursorPage page = employeeService.getAllEmployees("", 5, "id", "asc", true);
+
+        assertThat(page.getContent()).hasSize(5);
+        assertThat(page.getTotalElements()).isEqualTo(EMPLOYEES);
+        assertThat(page.getContent().get(1).getDepartmentName()).isEqualTo("Department");
+        assertThat(page.getContent().get(1).getDesignationTitle()).isEqualTo("Designation");
+        assertThat(page.getContent().get(1).getManagerName()).isEqualTo("First0 Last0");
+    }
+
+    @Test
+    void cursorWithAnUnknownSortPropertyIsRejected() {
+        String forged = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("password\nASC\n1\nx".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> employeeService.getAllEmployees(forged, 5, "id", "asc", false))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Invalid pagination cursor");
+    }
+
+    private List<EmployeeSummary> walk(EmployeeSortField field, String direction) {
+        List<EmployeeSummary> visited = new ArrayList<>();
+        String after = "";
+        do {
+            statistics.clear();
+            EmployeeCursorPage page = employeeService.getAllEmployees(after, 5, field.getProperty(), direction, false);
+            assertThat(statistics.getPrepareStatementCount()).as("statements per page").isEqualTo(1);
+            visited.addAll(page.getContent());
+            after = page.getNextCursor();
+        } while (after != null);
+        return visited;
+    }
+}
@@ -0,0 +1,98 @@
+package com.employeems.service;
+
+import com.employeems.analytics.WorkforceSnapshot;
+import com.employeems.analytics.WorkforceSnapshotListener;
+import com.employeems.dto.EmployeeDto;
+import com.employeems.entity.Employee;
+import com.employeems.facet.EmployeeFacetCounters;
+import com.employeems.facet.EmployeeFacetListener;
+import com.employeems.search.EmployeeSearchIndexListener;
+import com.employeems.search.NGramEmployeeSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The leaving date is taken only from the client and must agree with the
+ * status; it is never filled in or cleared because the status changed.
+ */
+@DataJpaTest
+@Import({EmployeeService.class, NGramEmployeeSearchIndex.class, EmployeeSearchIndexListener.class,
+        EmployeeFacetCounters.class, EmployeeFacetListener.class, WorkforceSnapshot.class,
+        WorkforceSnapshotListener.class})
+class EmployeeLeavingDateTest {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    private EmployeeDto employee;
+
+    @BeforeEach
+    void seed() {
+        employee = employeeService.createEmployee(dto(Employee.EmployeeStatus.ACTIVE, null));
+    }
+
+    @Test
+    void terminationKeepsTheSentLeavingDate() {
+        LocalDate leftOn = LocalDate.of(2024, 6, 30);
+
+        EmployeeDto updated = employeeService.updateEmployee(employee.getId(),
+                dto(Employee.EmployeeStatus.TERMINATED, leftOn));
+
+        assertThat(updated.getDateOfLeaving()).isEqualTo(leftOn);
+    }
+
+    @Test
+    void terminationWithoutALeavingDateDoesNotDeriveOne() {
+        EmployeeDto updated = employeeService.updateEmployee(employee.getId(),
+                dto(Employee.EmployeeStatus.TERMINATED, null));
+
+        assertThat(updated.getDateOfLeaving()).isNull();
+    }
+
+    @Test
+    void statusChangeWithoutALeavingDateKeepsTheStoredOne() {
+        LocalDate leftOn = LocalDate.of(2024, 6, 30);
+        employeeService.updateEmployee(employee.getId(), dto(Employee.EmployeeStatus.TERMINATED, leftOn));
+
+        EmployeeDto updated = employeeService.updateEmployee(employee.getId(),
+                dto(Employee.EmployeeStatus.INACTIVE, null));
+
+        assertThat(updated.getDateOfLeaving()).isEqualTo(leftOn);
+    }
+
+    @Test
+    void leavingDateRequiresTerminatedStatus() {
+        assertThatThrownBy(() -> employeeService.updateEmployee(employee.getId(),
+                dto(Employee.EmployeeStatus.ACTIVE, LocalDate.of(2024, 6, 30))))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Date of leaving is only allowed for terminated employees");
+    }
+
+    @Test
+    void leavingDateCannotPrecedeJoiningDate() {
+        assertThatThrownBy(() -> employeeService.updateEmployee(employee.getId(),
+                dto(Employee.EmployeeStatus.TERMINATED, LocalDate.of(2019, 12, 31))))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Date of leaving cannot be before date of joining");
+    }
+
+    private static EmployeeDto dto(Employee.EmployeeStatus status, LocalDate dateOfLeaving) {
+        EmployeeDto dto = new EmployeeDto();
+        dto.setEmployeeId("EMP0001");
+        dto.setFirstName("First");
+        dto.setLastName("Last");
+        dto.setEmail("employee@example.com");
+        dto.setDateOfJoining(LocalDate.of(2020, 1, 1));
+        dto.setStatus(status);
+        dto.setDateOfLeaving(dateOfLeaving);
+        return dto;
+    }
+}